@@ -5,6 +5,7 @@ plugins {
 	`maven-publish`
 	alias(libs.plugins.licenser)
 	alias(libs.plugins.download)
+	alias(libs.plugins.jmh)
 }
 
 group = "dev.yumi.bindings"
@@ -80,12 +81,60 @@ tasks.withType<Test>().configureEach {
 	jvmArgs(
 		"--enable-native-access=${project.group}.${project.name}",
 	)
-
 	testLogging {
 		events("passed")
 	}
 }
 
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("diagnostics", "fallbackLinkage")
+	}
+}
+
+// Instrumentation and leak tracing are fixed for the lifetime of a JVM, so their tests run in a dedicated one.
+val diagnosticsTestTask = tasks.register<Test>("diagnosticsTest") {
+	description = "Runs the tests of the instrumentation and leak tracing."
+	group = LifecycleBasePlugin.VERIFICATION_GROUP
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+
+	useJUnitPlatform {
+		includeTags("diagnostics")
+	}
+	// Reports faces and libraries leaked by tests along with where they were allocated.
+	systemProperty("freetype4j.leakDetection", "trace")
+	systemProperty("freetype4j.instrumentation", "true")
+}
+
+// Runs the test suite again with every native function linked normally, as when critical linkage is disabled.
+val fallbackLinkageTestTask = tasks.register<Test>("fallbackLinkageTest") {
+	description = "Runs the tests without critical linkage of native functions."
+	group = LifecycleBasePlugin.VERIFICATION_GROUP
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+
+	useJUnitPlatform {
+		excludeTags("diagnostics")
+	}
+	systemProperty("freetype4j.criticalDowncalls", "false")
+}
+
+tasks.check {
+	dependsOn(diagnosticsTestTask, fallbackLinkageTestTask)
+}
+
+jmh {
+	jmhVersion.set(libs.versions.jmh)
+	jvmArgsAppend.add("--enable-native-access=ALL-UNNAMED")
+	// Allows comparing critical and regular downcall linkage with -Pfreetype4j.criticalDowncalls=false
+	jvmArgsAppend.add(
+		providers.gradleProperty("freetype4j.criticalDowncalls")
+			.orElse("true")
+			.map { "-Dfreetype4j.criticalDowncalls=$it" }
+	)
+}
+
 // Setup publishing of artifacts.
 publishing {
 	repositories {
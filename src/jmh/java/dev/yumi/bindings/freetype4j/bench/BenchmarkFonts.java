@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Provides the font shipped with the benchmarks, so they can run offline.
+ */
+final class BenchmarkFonts {
+	private static final String FONT_RESOURCE = "/fonts/DejaVuSansMono.ttf";
+	private static Path fontPath;
+
+	private BenchmarkFonts() {
+		throw new UnsupportedOperationException("BenchmarkFonts only contains static definitions.");
+	}
+
+	/**
+	 * {@return the bytes of the benchmark font}
+	 */
+	static byte[] bytes() {
+		try (var stream = BenchmarkFonts.class.getResourceAsStream(FONT_RESOURCE)) {
+			if (stream == null) {
+				throw new IllegalStateException("Missing benchmark font " + FONT_RESOURCE + ".");
+			}
+
+			return stream.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * {@return the path to the benchmark font, extracted to a temporary file}
+	 */
+	static synchronized Path path() {
+		if (fontPath == null) {
+			try {
+				fontPath = Files.createTempFile("freetype4j-bench", ".ttf");
+				fontPath.toFile().deleteOnExit();
+				Files.write(fontPath, bytes());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		return fontPath;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j.bench;
+
+import dev.yumi.bindings.freetype4j.FTFace;
+import dev.yumi.bindings.freetype4j.FTLoadFlags;
+import dev.yumi.bindings.freetype4j.FreeType;
+import dev.yumi.bindings.freetype4j.TextMeasurer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FaceBenchmark {
+	private static final String TEXT = "The quick brown fox jumps over the lazy dog. 0123456789";
+	// Annotation values must be constants, setup checks that this matches the text.
+	private static final int TEXT_CODE_POINTS = 55;
+
+	private FreeType freetype;
+	private FTFace face;
+	private int[] codePoints;
+	private int[] glyphIndices;
+	private int glyphIndex;
+	private TextMeasurer measurer;
+
+	@Setup
+	public void setup() {
+		this.freetype = new FreeType();
+		this.face = this.freetype.newFace(BenchmarkFonts.path().toString(), 0);
+		this.face.setPixelSizes(0, 32);
+		this.codePoints = TEXT.codePoints().toArray();
+
+		if (this.codePoints.length != TEXT_CODE_POINTS) {
+			throw new IllegalStateException("The text has " + this.codePoints.length + " code points, expected " + TEXT_CODE_POINTS + ".");
+		}
+
+		this.glyphIndices = new int[this.codePoints.length];
+		this.glyphIndex = this.face.getCharIndex('a');
+		this.measurer = new TextMeasurer(this.face, FTLoadFlags.DEFAULT, true);
+		this.measurer.measure(TEXT);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.face.close();
+		this.freetype.close();
+	}
+
+	@Benchmark
+	public int getCharIndex() {
+		return this.face.getCharIndex('a');
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TEXT_CODE_POINTS)
+	public int[] getCharIndices() {
+		this.face.getCharIndices(this.codePoints, this.glyphIndices);
+		return this.glyphIndices;
+	}
+
+	@Benchmark
+	public long measureText() {
+		return this.measurer.measure(TEXT);
+	}
+
+	@Benchmark
+	public void setPixelSizes() {
+		this.face.setPixelSizes(0, 32);
+	}
+
+	@Benchmark
+	public void loadGlyph(Blackhole blackhole) {
+		blackhole.consume(this.face.loadGlyph(this.glyphIndex, FTLoadFlags.DEFAULT).advanceX());
+	}
+
+	@Benchmark
+	public void loadAndRenderGlyph(Blackhole blackhole) {
+		blackhole.consume(this.face.loadGlyph(this.glyphIndex, FTLoadFlags.RENDER).bitmap().width());
+	}
+
+	@Benchmark
+	public void fieldAccessors(Blackhole blackhole) {
+		blackhole.consume(this.face.faceCount());
+		blackhole.consume(this.face.glyphCount());
+		blackhole.consume(this.face.unitsPerEm());
+		blackhole.consume(this.face.charMapCount());
+		blackhole.consume(this.face.bbox().xMax());
+	}
+
+	@Benchmark
+	public String familyName() {
+		return this.face.familyName();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j.bench;
+
+import dev.yumi.bindings.freetype4j.FreeType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FaceLoadBenchmark {
+	private FreeType freetype;
+	private Path fontPath;
+	private String fontPathString;
+	private byte[] fontBytes;
+	private Arena arena;
+	private MemorySegment fontSegment;
+
+	@Setup
+	public void setup() {
+		this.freetype = new FreeType();
+		this.fontPath = BenchmarkFonts.path();
+		this.fontPathString = this.fontPath.toString();
+		this.fontBytes = BenchmarkFonts.bytes();
+		this.arena = Arena.ofShared();
+		this.fontSegment = this.arena.allocate(this.fontBytes.length);
+		this.fontSegment.copyFrom(MemorySegment.ofArray(this.fontBytes));
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.freetype.close();
+		this.arena.close();
+	}
+
+	@Benchmark
+	public long newFace() {
+		try (var face = this.freetype.newFace(this.fontPathString, 0)) {
+			return face.glyphCount();
+		}
+	}
+
+	@Benchmark
+	public long newFaceFromPath() throws IOException {
+		try (var face = this.freetype.newFace(this.fontPath, 0)) {
+			return face.glyphCount();
+		}
+	}
+
+	@Benchmark
+	public long newMappedFace() throws IOException {
+		try (var face = this.freetype.newMappedFace(this.fontPath, 0)) {
+			return face.glyphCount();
+		}
+	}
+
+	@Benchmark
+	public long newMemoryFace() {
+		try (var face = this.freetype.newMemoryFace(this.fontBytes, 0)) {
+			return face.glyphCount();
+		}
+	}
+
+	@Benchmark
+	public long newMemoryFaceBorrowed() {
+		try (var face = this.freetype.newMemoryFace(this.fontSegment, 0)) {
+			return face.glyphCount();
+		}
+	}
+}
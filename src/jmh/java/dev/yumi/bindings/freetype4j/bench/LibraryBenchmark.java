@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j.bench;
+
+import dev.yumi.bindings.freetype4j.FreeType;
+import dev.yumi.bindings.freetype4j.FreeTypeVersion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LibraryBenchmark {
+	private FreeType freetype;
+
+	@Setup
+	public void setup() {
+		this.freetype = new FreeType();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.freetype.close();
+	}
+
+	@Benchmark
+	public void initAndDone() {
+		new FreeType().close();
+	}
+
+	@Benchmark
+	public FreeTypeVersion getVersion() {
+		return this.freetype.getVersion();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the set of character codes covered by a face, stored as a compact two-level bitset.
+ * <p>
+ * The Unicode range is split into pages of 256 code points, each page being either absent, full, or a 256-bit set.
+ * Lookups are a couple of array reads, without any native call,
+ * which makes coverages suitable for per-character font fallback.
+ * <p>
+ * A coverage is immutable, and can be shared between threads.
+ *
+ * @see FallbackChain
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CharCoverage {
+	private static final int PAGE_SHIFT = 8;
+	private static final int PAGE_COUNT = (Character.MAX_CODE_POINT + 1) >> PAGE_SHIFT;
+	private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) / Long.SIZE;
+	private static final long[] FULL_PAGE = {-1L, -1L, -1L, -1L};
+
+	private final long[][] pages;
+	private final int size;
+
+	private CharCoverage(long[][] pages, int size) {
+		this.pages = pages;
+		this.size = size;
+	}
+
+	/**
+	 * Computes the coverage of the currently selected charmap of the given face.
+	 * <p>
+	 * This walks the whole charmap once.
+	 *
+	 * @param face the face
+	 * @return the coverage
+	 */
+	public static @NotNull CharCoverage of(@NotNull FTFace face) {
+		return ofRanges(face.charRanges());
+	}
+
+	/**
+	 * Creates a coverage from ranges of character codes, like {@link FontCatalog.Entry#coverage()}.
+	 *
+	 * @param ranges the inclusive ranges of character codes, as consecutive start and end pairs
+	 * @return the coverage
+	 * @throws IllegalArgumentException if the ranges array has an odd length
+	 */
+	public static @NotNull CharCoverage ofRanges(int @NotNull [] ranges) {
+		if ((ranges.length & 1) != 0) {
+			throw new IllegalArgumentException("Ranges must be given as start and end pairs.");
+		}
+
+		var pages = new long[PAGE_COUNT][];
+		int size = 0;
+
+		for (int i = 0; i < ranges.length; i += 2) {
+			int start = Math.max(ranges[i], 0);
+			int end = Math.min(ranges[i + 1], Character.MAX_CODE_POINT);
+
+			for (int codePoint = start; codePoint <= end; ) {
+				int page = codePoint >> PAGE_SHIFT;
+				int pageEnd = Math.min(end, ((page + 1) << PAGE_SHIFT) - 1);
+
+				if (pages[page] != FULL_PAGE) {
+					if ((codePoint & 0xff) == 0 && (pageEnd & 0xff) == 0xff) {
+						pages[page] = FULL_PAGE;
+					} else {
+						if (pages[page] == null) {
+							pages[page] = new long[WORDS_PER_PAGE];
+						}
+
+						for (int c = codePoint; c <= pageEnd; c++) {
+							pages[page][(c & 0xff) >> 6] |= 1L << c;
+						}
+					}
+				}
+
+				codePoint = pageEnd + 1;
+			}
+		}
+
+		for (var page : pages) {
+			if (page != null) {
+				for (long word : page) {
+					size += Long.bitCount(word);
+				}
+			}
+		}
+
+		return new CharCoverage(pages, size);
+	}
+
+	/**
+	 * {@return {@code true} if this coverage contains the given character code, or {@code false} otherwise}
+	 *
+	 * @param codePoint the character code
+	 */
+	public boolean contains(int codePoint) {
+		if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+			return false;
+		}
+
+		var page = this.pages[codePoint >> PAGE_SHIFT];
+		return page != null && (page[(codePoint & 0xff) >> 6] & (1L << codePoint)) != 0;
+	}
+
+	/**
+	 * {@return the number of character codes in this coverage}
+	 */
+	@Contract(pure = true)
+	public int size() {
+		return this.size;
+	}
+}
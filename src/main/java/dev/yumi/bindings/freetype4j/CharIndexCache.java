@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.Arrays;
+
+/**
+ * Represents a lazily filled cache of the active charmap of a face.
+ * <p>
+ * Character codes of the Basic Multilingual Plane are stored in a dense table,
+ * while supplementary planes and other large character codes are stored in a sparse map.
+ *
+ * @see FTFace#setCharIndexCaching(boolean)
+ */
+final class CharIndexCache {
+	static final int UNKNOWN = -1;
+	private static final int BMP_SIZE = 0x10000;
+
+	/**
+	 * The glyph index plus one of each cached BMP character code, {@code 0} meaning the character code is not cached.
+	 */
+	private final char[] bmp = new char[BMP_SIZE];
+	private final FTCharIndexMap sparse = new FTCharIndexMap(64);
+
+	/**
+	 * Gets the cached glyph index of a given character code.
+	 *
+	 * @param codePoint the character code
+	 * @return the glyph index, or {@link #UNKNOWN} if the character code is not cached
+	 */
+	int get(long codePoint) {
+		if (codePoint >= 0 && codePoint < BMP_SIZE) {
+			int value = this.bmp[(int) codePoint];
+
+			if (value != 0) {
+				return value - 1;
+			}
+		}
+
+		if (codePoint >= 0 && codePoint <= Integer.MAX_VALUE) {
+			return this.sparse.getOrDefault((int) codePoint, UNKNOWN);
+		}
+
+		return UNKNOWN;
+	}
+
+	void put(long codePoint, int glyphIndex) {
+		if (codePoint >= 0 && codePoint < BMP_SIZE && glyphIndex >= 0 && glyphIndex < Character.MAX_VALUE) {
+			this.bmp[(int) codePoint] = (char) (glyphIndex + 1);
+		} else if (codePoint >= 0 && codePoint <= Integer.MAX_VALUE) {
+			this.sparse.put((int) codePoint, glyphIndex);
+		}
+	}
+
+	void clear() {
+		Arrays.fill(this.bmp, (char) 0);
+		this.sparse.clear();
+	}
+}
@@ -22,6 +22,10 @@ public class FTBBox {
 			ValueLayout.JAVA_LONG.withName("xMax"),
 			ValueLayout.JAVA_LONG.withName("yMax")
 	).withName("FT_BBox");
+	private static final long X_MIN_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("xMin"));
+	private static final long Y_MIN_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("yMin"));
+	private static final long X_MAX_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("xMax"));
+	private static final long Y_MAX_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("yMax"));
 
 	private final MemorySegment handle;
 
@@ -38,22 +42,18 @@ public class FTBBox {
 	}
 
 	public long xMin() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("xMin"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, X_MIN_OFFSET);
 	}
 
 	public long yMin() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("yMin"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, Y_MIN_OFFSET);
 	}
 
 	public long xMax() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("xMax"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, X_MAX_OFFSET);
 	}
 
 	public long yMax() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("yMax"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, Y_MAX_OFFSET);
 	}
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * Represents a bitmap or pixmap to which a glyph is rendered.
+ * <p>
+ * A bitmap obtained from a {@linkplain FTGlyphSlot#bitmap() glyph slot} is a live view:
+ * its content changes every time a new glyph is loaded or rendered into the slot.
+ * The pixels can be accessed directly through {@link #buffer()},
+ * or copied into a caller-provided destination with one of the {@code copyTo} methods.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTBitmap {
+	static final MemoryLayout LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_INT.withName("rows"),
+			ValueLayout.JAVA_INT.withName("width"),
+			ValueLayout.JAVA_INT.withName("pitch"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.C_POINTER.withName("buffer"),
+			ValueLayout.JAVA_SHORT.withName("num_grays"),
+			ValueLayout.JAVA_BYTE.withName("pixel_mode"),
+			ValueLayout.JAVA_BYTE.withName("palette_mode"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.C_POINTER.withName("palette")
+	).withName("FT_Bitmap");
+	private static final long ROWS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("rows"));
+	private static final long WIDTH_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("width"));
+	private static final long PITCH_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("pitch"));
+	private static final long NUM_GRAYS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_grays"));
+	private static final long PIXEL_MODE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("pixel_mode"));
+	private static final long BUFFER_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("buffer"));
+
+	private final MemorySegment handle;
+
+	public FTBitmap(MemorySegment handle) {
+		this.handle = handle;
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Bitmap object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the number of bitmap rows}
+	 */
+	public int rows() {
+		return this.handle.get(ValueLayout.JAVA_INT, ROWS_OFFSET);
+	}
+
+	/**
+	 * {@return the number of pixels in a bitmap row}
+	 */
+	public int width() {
+		return this.handle.get(ValueLayout.JAVA_INT, WIDTH_OFFSET);
+	}
+
+	/**
+	 * {@return the pitch of this bitmap}
+	 * The absolute value of the pitch is the number of bytes taken by one bitmap row, including padding.
+	 * A positive pitch means the rows are stored top to bottom, a negative pitch means they are stored bottom to top.
+	 */
+	public int pitch() {
+		return this.handle.get(ValueLayout.JAVA_INT, PITCH_OFFSET);
+	}
+
+	/**
+	 * {@return the number of gray levels used in this bitmap, only relevant for {@link FTPixelMode#GRAY}}
+	 */
+	public int grayCount() {
+		return Short.toUnsignedInt(this.handle.get(ValueLayout.JAVA_SHORT, NUM_GRAYS_OFFSET));
+	}
+
+	/**
+	 * {@return the pixel mode of this bitmap}
+	 */
+	public FTPixelMode pixelMode() {
+		return FTPixelMode.byId(Byte.toUnsignedInt(this.handle.get(ValueLayout.JAVA_BYTE, PIXEL_MODE_OFFSET)));
+	}
+
+	/**
+	 * {@return the number of bytes holding pixel data in a single row, excluding padding}
+	 */
+	public int rowByteSize() {
+		var pixelMode = this.pixelMode();
+		return pixelMode == null ? 0 : pixelMode.rowByteSize(this.width());
+	}
+
+	/**
+	 * {@return the pixel buffer of this bitmap, or {@link MemorySegment#NULL} if this bitmap is empty}
+	 * <p>
+	 * The returned segment is only valid until the next glyph is loaded or rendered into the owning glyph slot.
+	 */
+	public @NotNull MemorySegment buffer() {
+		var ptr = this.handle.get(FreeTypeNative.C_POINTER, BUFFER_OFFSET);
+
+		if (ptr.equals(MemorySegment.NULL)) {
+			return MemorySegment.NULL;
+		}
+
+		return ptr.reinterpret((long) this.rows() * Math.abs(this.pitch()));
+	}
+
+	/**
+	 * Copies the pixels of this bitmap into the given destination, row by row from top to bottom.
+	 * <p>
+	 * Only {@link #rowByteSize()} bytes are copied per row, row padding is skipped.
+	 *
+	 * @param destination the destination memory
+	 * @param offset the offset in bytes of the first row in the destination
+	 * @param stride the distance in bytes between two rows in the destination
+	 * @throws IndexOutOfBoundsException if the destination is too small
+	 */
+	public void copyTo(@NotNull MemorySegment destination, long offset, long stride) {
+		var buffer = this.buffer();
+		int rows = this.rows();
+		int pitch = this.pitch();
+		int rowByteSize = this.rowByteSize();
+
+		for (int row = 0; row < rows; row++) {
+			MemorySegment.copy(
+					buffer, rowOffset(row, rows, pitch),
+					destination, offset + row * stride,
+					rowByteSize
+			);
+		}
+	}
+
+	/**
+	 * Copies the pixels of this bitmap into the given array, row by row from top to bottom.
+	 * <p>
+	 * Only {@link #rowByteSize()} bytes are copied per row, row padding is skipped.
+	 *
+	 * @param destination the destination array
+	 * @param offset the index of the first row in the destination
+	 * @param stride the distance between two rows in the destination
+	 * @throws IndexOutOfBoundsException if the destination is too small
+	 */
+	public void copyTo(byte @NotNull [] destination, int offset, int stride) {
+		Objects.requireNonNull(destination);
+
+		var buffer = this.buffer();
+		int rows = this.rows();
+		int pitch = this.pitch();
+		int rowByteSize = this.rowByteSize();
+
+		for (int row = 0; row < rows; row++) {
+			MemorySegment.copy(
+					buffer, ValueLayout.JAVA_BYTE, rowOffset(row, rows, pitch),
+					destination, offset + row * stride,
+					rowByteSize
+			);
+		}
+	}
+
+	/**
+	 * Copies the pixels of this bitmap into the given destination as 8-bit coverage values, row by row from top to bottom.
+	 * <p>
+	 * {@link FTPixelMode#GRAY} bitmaps are copied as-is, while {@link FTPixelMode#MONO}, {@link FTPixelMode#GRAY2}
+	 * and {@link FTPixelMode#GRAY4} bitmaps are expanded to one byte per pixel.
+	 *
+	 * @param destination the destination memory
+	 * @param offset the offset in bytes of the first row in the destination
+	 * @param stride the distance in bytes between two rows in the destination
+	 * @throws IllegalStateException if the pixel mode of this bitmap cannot be represented as 8-bit coverage
+	 * @throws IndexOutOfBoundsException if the destination is too small
+	 */
+	public void copyCoverageTo(@NotNull MemorySegment destination, long offset, long stride) {
+		var pixelMode = this.pixelMode();
+		int bits = switch (pixelMode) {
+			case GRAY -> 8;
+			case MONO -> 1;
+			case GRAY2 -> 2;
+			case GRAY4 -> 4;
+			case null, default -> throw new IllegalStateException(
+					"Cannot convert " + pixelMode + " bitmaps to 8-bit coverage values."
+			);
+		};
+
+		if (bits == 8) {
+			this.copyTo(destination, offset, stride);
+			return;
+		}
+
+		var buffer = this.buffer();
+		int rows = this.rows();
+		int width = this.width();
+		int pitch = this.pitch();
+		int maxLevel = (1 << bits) - 1;
+
+		for (int row = 0; row < rows; row++) {
+			long sourceRow = rowOffset(row, rows, pitch);
+			long destinationRow = offset + row * stride;
+
+			for (int column = 0; column < width; column++) {
+				int bitIndex = column * bits;
+				int packed = buffer.get(ValueLayout.JAVA_BYTE, sourceRow + (bitIndex >> 3));
+				int level = (packed >> (8 - bits - (bitIndex & 7))) & maxLevel;
+				destination.set(ValueLayout.JAVA_BYTE, destinationRow + column, (byte) (level * 255 / maxLevel));
+			}
+		}
+	}
+
+	/**
+	 * {@return the offset in the bitmap buffer of the given row, counting from the top}
+	 *
+	 * @param row the row index, from the top
+	 * @param rows the number of rows
+	 * @param pitch the bitmap pitch
+	 */
+	static long rowOffset(int row, int rows, int pitch) {
+		if (pitch >= 0) {
+			return (long) row * pitch;
+		} else {
+			return (long) (rows - 1 - row) * -pitch;
+		}
+	}
+}
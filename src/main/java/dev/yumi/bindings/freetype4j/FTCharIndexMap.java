@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents a snapshot of a character map, mapping character codes to glyph indices entirely in Java.
+ * <p>
+ * Lookups into this map never call into FreeType, which makes it suitable to map large amounts of text.
+ * The mappings are stored in a primitive open-addressing hash table, no object is allocated per lookup.
+ * The character code {@code 0xFFFFFFFF}, which is {@code -1} as an {@code int}, marks free slots of that table:
+ * it is reserved, and is never mapped to any glyph.
+ *
+ * @see FTFace#charIndexMap()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTCharIndexMap {
+	/**
+	 * The character code which is reserved to mark free slots, and is never mapped.
+	 */
+	static final long RESERVED_CODE = 0xFFFFFFFFL;
+	private static final int FREE_KEY = (int) RESERVED_CODE;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size;
+
+	FTCharIndexMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+		this.keys = new int[capacity];
+		this.values = new int[capacity];
+		this.mask = capacity - 1;
+		Arrays.fill(this.keys, FREE_KEY);
+	}
+
+	/**
+	 * {@return the number of character codes held by this map}
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the glyph index of a given character code.
+	 *
+	 * @param codePoint the character code
+	 * @return the glyph index, {@code 0} means "undefined character code", which is always the case for the reserved
+	 * {@code -1} character code
+	 */
+	public int get(int codePoint) {
+		return this.getOrDefault(codePoint, 0);
+	}
+
+	/**
+	 * Gets the glyph indices of the given character codes.
+	 *
+	 * @param codePoints the character codes
+	 * @param out the array receiving the glyph indices, at the same index as their character code
+	 */
+	public void getCharIndices(int @NotNull [] codePoints, int @NotNull [] out) {
+		if (out.length < codePoints.length) {
+			throw new IllegalArgumentException("The output array is too small to hold every glyph index.");
+		}
+
+		for (int i = 0; i < codePoints.length; i++) {
+			out[i] = this.get(codePoints[i]);
+		}
+	}
+
+	/**
+	 * Gets the glyph indices of each code point of the given text.
+	 *
+	 * @param text the text
+	 * @param out the array receiving the glyph indices, must be at least as long as the text
+	 * @return the number of code points, and thus of glyph indices written
+	 * @throws IllegalArgumentException if the output array is shorter than the text
+	 */
+	public int getCharIndices(@NotNull CharSequence text, int @NotNull [] out) {
+		if (out.length < text.length()) {
+			throw new IllegalArgumentException("The output array is too small to hold every glyph index.");
+		}
+
+		int count = 0;
+
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = Character.codePointAt(text, i);
+			out[count++] = this.get(codePoint);
+			i += Character.charCount(codePoint);
+		}
+
+		return count;
+	}
+
+	int getOrDefault(int codePoint, int defaultValue) {
+		if (codePoint == FREE_KEY) {
+			return defaultValue;
+		}
+
+		int slot = hash(codePoint) & this.mask;
+
+		while (true) {
+			int key = this.keys[slot];
+
+			if (key == codePoint) {
+				return this.values[slot];
+			} else if (key == FREE_KEY) {
+				return defaultValue;
+			}
+
+			slot = (slot + 1) & this.mask;
+		}
+	}
+
+	void put(int codePoint, int glyphIndex) {
+		if (codePoint == FREE_KEY) {
+			throw new IllegalArgumentException("The character code 0xFFFFFFFF is reserved and cannot be mapped.");
+		}
+
+		int slot = hash(codePoint) & this.mask;
+
+		while (true) {
+			int key = this.keys[slot];
+
+			if (key == codePoint) {
+				this.values[slot] = glyphIndex;
+				return;
+			} else if (key == FREE_KEY) {
+				this.keys[slot] = codePoint;
+				this.values[slot] = glyphIndex;
+
+				if (++this.size * 2 > this.keys.length) {
+					this.rehash(this.keys.length << 1);
+				}
+
+				return;
+			}
+
+			slot = (slot + 1) & this.mask;
+		}
+	}
+
+	void clear() {
+		Arrays.fill(this.keys, FREE_KEY);
+		this.size = 0;
+	}
+
+	private void rehash(int capacity) {
+		var oldKeys = this.keys;
+		var oldValues = this.values;
+
+		this.keys = new int[capacity];
+		this.values = new int[capacity];
+		this.mask = capacity - 1;
+		this.size = 0;
+		Arrays.fill(this.keys, FREE_KEY);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != FREE_KEY) {
+				this.put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	private static int hash(int key) {
+		int hash = key * 0x9e3779b9;
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -37,6 +37,10 @@ public class FTCharMap {
 			ValueLayout.JAVA_SHORT.withName("platform_id"),
 			ValueLayout.JAVA_SHORT.withName("encoding_id")
 	);
+	private static final long ENCODING_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("encoding"));
+	private static final long PLATFORM_ID_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("platform_id"));
+	private static final long ENCODING_ID_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("encoding_id"));
+	private static final long FACE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("face"));
 
 	private final FTFace parent;
 	private final MemorySegment handle;
@@ -75,8 +79,7 @@ public class FTCharMap {
 	 * @see FTFace#selectCharMap(FTEncoding)
 	 */
 	public FTEncoding encoding() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("encoding"));
-		int id = this.handle.get(ValueLayout.JAVA_INT, offset);
+		int id = this.handle.get(ValueLayout.JAVA_INT, ENCODING_OFFSET);
 		return FTEncoding.byId(id);
 	}
 
@@ -85,8 +88,7 @@ public class FTCharMap {
 	 * This comes directly from the TrueType specification and gets emulated for other formats.
 	 */
 	public short platformId() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("platform_id"));
-		return this.handle.get(ValueLayout.JAVA_SHORT, offset);
+		return this.handle.get(ValueLayout.JAVA_SHORT, PLATFORM_ID_OFFSET);
 	}
 
 	/**
@@ -94,12 +96,10 @@ public class FTCharMap {
 	 * This also comes from the TrueType specification and gets emulated similarly.
 	 */
 	public short encodingId() {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("encoding_id"));
-		return this.handle.get(ValueLayout.JAVA_SHORT, offset);
+		return this.handle.get(ValueLayout.JAVA_SHORT, ENCODING_ID_OFFSET);
 	}
 
 	private static MemorySegment getFace(MemorySegment handle) {
-		long offset = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("face"));
-		return handle.get(FreeTypeNative.C_POINTER, offset);
+		return handle.get(FreeTypeNative.C_POINTER, FACE_OFFSET);
 	}
 }
@@ -10,25 +10,62 @@ package dev.yumi.bindings.freetype4j;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
-import java.lang.foreign.Arena;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 public class FTFace implements AutoCloseable {
+	private static final long NUM_FACES_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_faces"));
+	private static final long FACE_INDEX_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("face_index"));
+	private static final long FACE_FLAGS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("face_flags"));
+	private static final long STYLE_FLAGS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("style_flags"));
+	private static final long NUM_GLYPHS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_glyphs"));
+	private static final long FAMILY_NAME_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("family_name"));
+	private static final long STYLE_NAME_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("style_name"));
+	private static final long NUM_FIXED_SIZES_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_fixed_sizes"));
+	private static final long NUM_CHARMAPS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_charmaps"));
+	private static final long CHARMAPS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("charmaps"));
+	private static final long BBOX_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("bbox"));
+	private static final long UNITS_PER_EM_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("units_per_EM"));
+	private static final long ASCENDER_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("ascender"));
+	private static final long DESCENDER_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("descender"));
+	private static final long HEIGHT_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("height"));
+	private static final long MAX_ADVANCE_WIDTH_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("max_advance_width"));
+	private static final long MAX_ADVANCE_HEIGHT_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("max_advance_height"));
+	private static final long UNDERLINE_POSITION_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("underline_position"));
+	private static final long UNDERLINE_THICKNESS_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("underline_thickness"));
+	private static final long GLYPH_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("glyph"));
+	private static final long SIZE_OFFSET = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("size"));
+	private static final long SIZE_METRICS_OFFSET = FreeTypeNative.FT_SIZE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("metrics"));
+
+	private static final long HVAR_TAG = 0x48564152L; // HVAR
+
 	private final MemorySegment handle;
 	private final FTBBox bbox;
+	private final FTGlyphSlot glyph;
+	private @Nullable CharIndexCache charIndexCache;
+	private int sizeGeneration;
+	private int variationGeneration;
+	private @Nullable List<FTSize> sizes;
+	private @Nullable FreeType owner;
+	private ResourceTracker.@Nullable Registration registration;
+	private @Nullable FTVariations variations;
+	private @Nullable Boolean fastAdvances;
 
 	public FTFace(MemorySegment handle) {
 		this.handle = handle.reinterpret(FreeTypeNative.FT_FACE_LAYOUT.byteSize());
 
-		long bboxOffset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("bbox"));
-		this.bbox = new FTBBox(this.handle.asSlice(bboxOffset, FTBBox.LAYOUT));
+		this.bbox = new FTBBox(this.handle.asSlice(BBOX_OFFSET, FTBBox.LAYOUT));
+		this.glyph = new FTGlyphSlot(this, this.handle.get(FreeTypeNative.C_POINTER, GLYPH_OFFSET));
 	}
 
 	/**
@@ -44,33 +81,53 @@ public class FTFace implements AutoCloseable {
 	 * Some font formats can have multiple faces in a single font file.
 	 */
 	public long faceCount() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_faces"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, NUM_FACES_OFFSET);
 	}
 
 	/**
 	 * {@return the face index of this face}
 	 */
 	public long faceIndex() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("face_index"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, FACE_INDEX_OFFSET);
+	}
+
+	/**
+	 * {@return the bit flags of this face}
+	 * They describe the properties of the face, like whether it is scalable or holds kerning data.
+	 *
+	 * @see FTFaceFlags
+	 */
+	public long faceFlags() {
+		return this.handle.get(ValueLayout.JAVA_LONG, FACE_FLAGS_OFFSET);
+	}
+
+	/**
+	 * {@return the {@code FT_STYLE_FLAG_XXX} bit flags of this face}
+	 * The lower 16 bits describe the style of the face, like italic or bold,
+	 * and the upper bits hold the number of named instances of variation fonts.
+	 */
+	public long styleFlags() {
+		return this.handle.get(ValueLayout.JAVA_LONG, STYLE_FLAGS_OFFSET);
 	}
 
 	/**
 	 * {@return the number of glyphs in this face}
 	 */
 	public long glyphCount() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_glyphs"));
-		return this.handle.get(ValueLayout.JAVA_LONG, offset);
+		return this.handle.get(ValueLayout.JAVA_LONG, NUM_GLYPHS_OFFSET);
 	}
 
 	/**
-	 * {@return the family name of this face}
+	 * {@return the family name of this face, or an empty string if the font doesn't provide one}
 	 */
 	public @NotNull String familyName() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("family_name"));
-		var ptr = this.handle.get(FreeTypeNative.C_POINTER, offset);
-		return ptr.getString(0);
+		var ptr = this.handle.get(FreeTypeNative.C_POINTER, FAMILY_NAME_OFFSET);
+
+		if (ptr.equals(MemorySegment.NULL)) {
+			return "";
+		} else {
+			return ptr.getString(0);
+		}
 	}
 
 	/**
@@ -82,8 +139,7 @@ public class FTFace implements AutoCloseable {
 	 * and can return {@linkplain Optional#empty() nothing}.
 	 */
 	public @NotNull Optional<String> styleName() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("style_name"));
-		var ptr = this.handle.get(FreeTypeNative.C_POINTER, offset);
+		var ptr = this.handle.get(FreeTypeNative.C_POINTER, STYLE_NAME_OFFSET);
 
 		if (ptr.equals(MemorySegment.NULL)) {
 			return Optional.empty();
@@ -93,18 +149,15 @@ public class FTFace implements AutoCloseable {
 	}
 
 	public int fixedSizesCount() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_fixed_sizes"));
-		return this.handle.get(ValueLayout.JAVA_INT, offset);
+		return this.handle.get(ValueLayout.JAVA_INT, NUM_FIXED_SIZES_OFFSET);
 	}
 
 	public int charMapCount() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_charmaps"));
-		return this.handle.get(ValueLayout.JAVA_INT, offset);
+		return this.handle.get(ValueLayout.JAVA_INT, NUM_CHARMAPS_OFFSET);
 	}
 
 	public @Unmodifiable List<FTCharMap> charMaps() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("charmaps"));
-		var array = this.handle.get(FreeTypeNative.C_POINTER, offset);
+		var array = this.handle.get(FreeTypeNative.C_POINTER, CHARMAPS_OFFSET);
 		var list = new ArrayList<FTCharMap>();
 
 		for (int i = 0; i < this.charMapCount(); i++) {
@@ -121,8 +174,212 @@ public class FTFace implements AutoCloseable {
 	}
 
 	public short unitsPerEm() {
-		long offset = FreeTypeNative.FT_FACE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("units_per_EM"));
-		return this.handle.get(ValueLayout.JAVA_SHORT, offset);
+		return this.handle.get(ValueLayout.JAVA_SHORT, UNITS_PER_EM_OFFSET);
+	}
+
+	/**
+	 * {@return the typographic ascender of this face, in font units}
+	 * This is the vertical distance from the baseline to the top of the face, and is positive.
+	 */
+	public short ascender() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, ASCENDER_OFFSET);
+	}
+
+	/**
+	 * {@return the typographic descender of this face, in font units}
+	 * This is the vertical distance from the baseline to the bottom of the face, and is usually negative.
+	 */
+	public short descender() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, DESCENDER_OFFSET);
+	}
+
+	/**
+	 * {@return the default baseline-to-baseline distance of this face, in font units}
+	 */
+	public short height() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, HEIGHT_OFFSET);
+	}
+
+	/**
+	 * {@return the maximum advance width of every glyph in this face, in font units}
+	 * This is only relevant for horizontal layouts.
+	 */
+	public short maxAdvanceWidth() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, MAX_ADVANCE_WIDTH_OFFSET);
+	}
+
+	/**
+	 * {@return the maximum advance height of every glyph in this face, in font units}
+	 * This is only relevant for vertical layouts.
+	 */
+	public short maxAdvanceHeight() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, MAX_ADVANCE_HEIGHT_OFFSET);
+	}
+
+	/**
+	 * {@return the position of the underline line relative to the baseline, in font units}
+	 * This is usually negative, and is the center of the underline stem.
+	 */
+	public short underlinePosition() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, UNDERLINE_POSITION_OFFSET);
+	}
+
+	/**
+	 * {@return the thickness of the underline, in font units}
+	 */
+	public short underlineThickness() {
+		return this.handle.get(ValueLayout.JAVA_SHORT, UNDERLINE_THICKNESS_OFFSET);
+	}
+
+	/**
+	 * {@return the metrics of the active size of this face}
+	 * The metrics are only meaningful once a character size has been set.
+	 *
+	 * @see #setCharSize(long, long, int, int)
+	 * @see #setPixelSizes(int, int)
+	 * @see FTSize#metrics()
+	 */
+	public @NotNull FTSizeMetrics sizeMetrics() {
+		var size = this.handle.get(FreeTypeNative.C_POINTER, SIZE_OFFSET);
+		return new FTSizeMetrics(size.asSlice(SIZE_METRICS_OFFSET, FTSizeMetrics.LAYOUT));
+	}
+
+	/**
+	 * Creates a new size object for this face.
+	 * <p>
+	 * The new size is not activated, the current active size of this face is left untouched.
+	 *
+	 * @return the new size
+	 * @see FTSize#activate()
+	 */
+	public @NotNull FTSize newSize() {
+		int result;
+		FTSize size = null;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var ptr = scratch.allocate(ValueLayout.ADDRESS);
+			result = (int) this.natives().ft$NewSize.invokeExact(this.handle, ptr);
+
+			if (result == 0) {
+				size = new FTSize(this, ptr.get(ValueLayout.ADDRESS, 0));
+			}
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+
+		if (this.sizes == null) {
+			this.sizes = new ArrayList<>();
+		}
+
+		this.sizes.add(size);
+		return size;
+	}
+
+	MemorySegment activeSizeHandle() {
+		return this.handle.get(FreeTypeNative.C_POINTER, SIZE_OFFSET);
+	}
+
+	void removeSize(FTSize size) {
+		if (this.sizes != null) {
+			this.sizes.remove(size);
+		}
+	}
+
+	/**
+	 * Activates the given size of this face, without invalidating size-dependent caches.
+	 * <p>
+	 * This is only meant to temporarily switch to another size and back, which leaves the scaled metrics unchanged.
+	 *
+	 * @param sizeHandle the native handle of the size to activate
+	 */
+	void activateSize(MemorySegment sizeHandle) {
+		int result;
+
+		try {
+			result = (int) this.natives().ft$ActivateSize.invokeExact(sizeHandle);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+
+	void invalidateSize() {
+		this.sizeGeneration++;
+	}
+
+	/**
+	 * {@return the native functions to call on this face}
+	 * Faces whose font data is read through upcalls into Java must never be passed to critical downcalls,
+	 * and use functions which are all linked with normal linkage instead.
+	 *
+	 * @see FreeTypeNative#withUpcalls()
+	 */
+	FreeTypeNative natives() {
+		return FreeTypeNative.get();
+	}
+
+	/**
+	 * Rethrows the exception thrown by the font data source of this face during the last native call, if any.
+	 * <p>
+	 * Only faces whose font data is read through upcalls into Java can fail this way,
+	 * the exception of their source is then thrown instead of the generic FreeType error it caused.
+	 *
+	 * @throws UncheckedIOException if the font data could not be read
+	 */
+	void rethrowSourceError() {}
+
+	/**
+	 * Starts tracking this face as a resource of the given library.
+	 * <p>
+	 * The face keeps its library reachable, so a leaked library can never be freed before its faces.
+	 *
+	 * @param owner the library which created this face
+	 * @param registration the registration of this face
+	 */
+	void track(FreeType owner, ResourceTracker.Registration registration) {
+		this.owner = owner;
+		this.registration = registration;
+	}
+
+	/**
+	 * {@return the glyph slot of this face}
+	 * The same glyph slot is reused by every glyph loaded into this face.
+	 *
+	 * @see #loadGlyph(int, int)
+	 * @see #loadChar(long, int)
+	 */
+	@Contract(pure = true)
+	public @NotNull FTGlyphSlot glyph() {
+		return this.glyph;
+	}
+
+	/**
+	 * {@return a counter which changes every time the scaled metrics of a size of this face may have changed}
+	 * This happens when the character size of the active size, or the variation coordinates of this face are changed,
+	 * or when a size is closed, and lets size-dependent caches, like {@link TextMeasurer}, detect when they become stale.
+	 * Activating another size leaves this counter untouched, such caches are keyed by the active size instead.
+	 */
+	int sizeGeneration() {
+		return this.sizeGeneration;
+	}
+
+	/**
+	 * {@return a counter which changes every time the variation coordinates of this face are changed}
+	 * Unlike {@link #sizeGeneration()}, it is left untouched by size changes.
+	 */
+	int variationGeneration() {
+		return this.variationGeneration;
 	}
 
 	/**
@@ -139,13 +396,17 @@ public class FTFace implements AutoCloseable {
 		int result;
 
 		try {
-			result = (int) FreeTypeNative.get().ft$SetCharSize.invokeExact(
+			result = (int) this.natives().ft$SetCharSize.invokeExact(
 					this.handle, charWidth, charHeight, horizontalResolution, verticalResolution
 			);
 		} catch (Throwable e) {
 			throw new AssertionError(e);
+		} finally {
+			this.sizeGeneration++;
 		}
 
+		this.rethrowSourceError();
+
 		if (result != 0) {
 			throw new FreeTypeException(result, FreeType.getErrorString(result));
 		}
@@ -158,16 +419,139 @@ public class FTFace implements AutoCloseable {
 	 * @param height the nominal height, in pixels
 	 */
 	public void setPixelSizes(int width, int height) {
+		this.setPixelSizes(width, height, true);
+	}
+
+	/**
+	 * Sets the character size of the active size of this face in pixels.
+	 * <p>
+	 * Size-dependent caches may only be left valid if the active size is a temporarily activated one,
+	 * which is never active while they are in use.
+	 *
+	 * @param width the nominal width, in pixels
+	 * @param height the nominal height, in pixels
+	 * @param invalidate {@code true} if size-dependent caches must be invalidated, or {@code false} otherwise
+	 */
+	void setPixelSizes(int width, int height, boolean invalidate) {
 		int result;
 
 		try {
-			result = (int) FreeTypeNative.get().ft$setPixelSizes.invokeExact(
+			result = (int) this.natives().ft$setPixelSizes.invokeExact(
 					this.handle, width, height
 			);
 		} catch (Throwable e) {
 			throw new AssertionError(e);
+		} finally {
+			if (invalidate) {
+				this.sizeGeneration++;
+			}
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+
+	/**
+	 * {@return the variation axes and named instances of this face if it is a variable font,
+	 * or {@linkplain Optional#empty() nothing} otherwise}
+	 *
+	 * @see FTFaceFlags#MULTIPLE_MASTERS
+	 * @see #setVarDesignCoordinates(long[])
+	 */
+	public @NotNull Optional<FTVariations> variations() {
+		if ((this.faceFlags() & FTFaceFlags.MULTIPLE_MASTERS) == 0) {
+			return Optional.empty();
+		}
+
+		if (this.variations == null) {
+			int result;
+			FTVariations variations = null;
+
+			try (var scratch = FreeTypeNative.Scratch.push()) {
+				var ptr = scratch.allocate(ValueLayout.ADDRESS);
+				result = (int) this.natives().ft$GetMMVar.invokeExact(this.handle, ptr);
+
+				if (result == 0) {
+					var mmVar = ptr.get(ValueLayout.ADDRESS, 0);
+
+					try {
+						variations = FTVariations.of(mmVar);
+					} finally {
+						int _ = (int) this.natives().ft$DoneMMVar.invokeExact(this.glyph.library(), mmVar);
+					}
+				}
+			} catch (Throwable e) {
+				throw new AssertionError(e);
+			}
+
+			this.rethrowSourceError();
+
+			if (result != 0) {
+				throw new FreeTypeException(result, FreeType.getErrorString(result));
+			}
+
+			this.variations = variations;
+		}
+
+		return Optional.of(this.variations);
+	}
+
+	/**
+	 * Sets the design coordinates of this variable face, selecting the instance used by every following glyph load.
+	 * <p>
+	 * Changing the coordinates doesn't reload the font, but the scaled metrics of this face are updated.
+	 *
+	 * @param coordinates the design coordinates in 16.16 fixed-point, one per {@linkplain FTVariations#axes() axis},
+	 * missing trailing coordinates are set to the default value of their axis
+	 * @throws FreeTypeException if this face is not a variable font
+	 * @see #variations()
+	 */
+	public void setVarDesignCoordinates(long @NotNull [] coordinates) {
+		int result;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			result = (int) this.natives().ft$SetVarDesignCoordinates.invokeExact(
+					this.handle, coordinates.length, scratch.allocateFrom(ValueLayout.JAVA_LONG, coordinates)
+			);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		} finally {
+			this.sizeGeneration++;
+			this.variationGeneration++;
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+
+	/**
+	 * Gets the current design coordinates of this variable face.
+	 *
+	 * @param out the array receiving the design coordinates in 16.16 fixed-point, one per {@linkplain FTVariations#axes() axis}
+	 * @throws FreeTypeException if this face is not a variable font
+	 * @see #variations()
+	 */
+	public void getVarDesignCoordinates(long @NotNull [] out) {
+		int result;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var coordinates = scratch.allocate(ValueLayout.JAVA_LONG, out.length);
+			result = (int) this.natives().ft$GetVarDesignCoordinates.invokeExact(
+					this.handle, out.length, coordinates
+			);
+			MemorySegment.copy(coordinates, ValueLayout.JAVA_LONG, 0, out, 0, out.length);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
 		}
 
+		this.rethrowSourceError();
+
 		if (result != 0) {
 			throw new FreeTypeException(result, FreeType.getErrorString(result));
 		}
@@ -177,13 +561,17 @@ public class FTFace implements AutoCloseable {
 		int result;
 
 		try {
-			result = (int) FreeTypeNative.get().ft$SelectCharmap.invokeExact(
+			result = (int) this.natives().ft$SelectCharmap.invokeExact(
 					this.handle, encoding.id()
 			);
 		} catch (Throwable e) {
 			throw new AssertionError(e);
+		} finally {
+			this.invalidateCharIndexCache();
 		}
 
+		this.rethrowSourceError();
+
 		if (result != 0) {
 			throw new FreeTypeException(result, FreeType.getErrorString(result));
 		}
@@ -193,13 +581,17 @@ public class FTFace implements AutoCloseable {
 		int result;
 
 		try {
-			result = (int) FreeTypeNative.get().ft$SetCharmap.invokeExact(
+			result = (int) this.natives().ft$SetCharmap.invokeExact(
 					this.handle, charMap.handle()
 			);
 		} catch (Throwable e) {
 			throw new AssertionError(e);
+		} finally {
+			this.invalidateCharIndexCache();
 		}
 
+		this.rethrowSourceError();
+
 		if (result != 0) {
 			throw new FreeTypeException(result, FreeType.getErrorString(result));
 		}
@@ -213,42 +605,680 @@ public class FTFace implements AutoCloseable {
 	 * @return the glyph index. {@code 0} means "undefined character code"
 	 */
 	public int getCharIndex(long codePoint) {
+		var cache = this.charIndexCache;
+
+		if (cache != null) {
+			int glyphIndex = cache.get(codePoint);
+
+			if (glyphIndex == CharIndexCache.UNKNOWN) {
+				glyphIndex = this.getCharIndexNative(codePoint);
+				cache.put(codePoint, glyphIndex);
+			}
+
+			return glyphIndex;
+		}
+
+		return this.getCharIndexNative(codePoint);
+	}
+
+	private int getCharIndexNative(long codePoint) {
+		int glyphIndex;
+
 		try {
-			return (int) FreeTypeNative.get().ft$GetCharIndex.invokeExact(
+			glyphIndex = (int) this.natives().ft$GetCharIndex.invokeExact(
 					this.handle, codePoint
 			);
 		} catch (Throwable e) {
 			throw new AssertionError(e);
 		}
+
+		this.rethrowSourceError();
+		return glyphIndex;
+	}
+
+	/**
+	 * {@return {@code true} if the glyph indices of the active charmap are cached, or {@code false} otherwise}
+	 *
+	 * @see #setCharIndexCaching(boolean)
+	 */
+	public boolean isCharIndexCaching() {
+		return this.charIndexCache != null;
+	}
+
+	/**
+	 * Sets whether the glyph indices of the active charmap are cached on the Java side.
+	 * <p>
+	 * When enabled, {@link #getCharIndex(long)} and {@link #getCharIndices(CharSequence, int[])} only call
+	 * into FreeType the first time a given character code is looked up.
+	 * Basic Multilingual Plane characters are cached in a dense table of 128 KiB,
+	 * while other characters are cached in a sparse map.
+	 * The cache fills itself lazily, and is reset whenever the active charmap changes.
+	 *
+	 * @param enabled {@code true} to enable the cache, or {@code false} to disable it and drop its content
+	 */
+	public void setCharIndexCaching(boolean enabled) {
+		if (!enabled) {
+			this.charIndexCache = null;
+		} else if (this.charIndexCache == null) {
+			this.charIndexCache = new CharIndexCache();
+		}
+	}
+
+	private void invalidateCharIndexCache() {
+		if (this.charIndexCache != null) {
+			this.charIndexCache.clear();
+		}
+	}
+
+	/**
+	 * Gets the glyph indices of the given character codes.
+	 * This function uses the currently selected charmap to do the mapping.
+	 *
+	 * @param codePoints the character codes
+	 * @param out the array receiving the glyph indices, at the same index as their character code.
+	 * {@code 0} means "undefined character code"
+	 * @see #charIndexMap()
+	 */
+	public void getCharIndices(int @NotNull [] codePoints, int @NotNull [] out) {
+		if (out.length < codePoints.length) {
+			throw new IllegalArgumentException("The output array is too small to hold every glyph index.");
+		}
+
+		for (int i = 0; i < codePoints.length; i++) {
+			out[i] = this.getCharIndex(codePoints[i]);
+		}
+	}
+
+	/**
+	 * Gets the glyph indices of each code point of the given text.
+	 * This function uses the currently selected charmap to do the mapping.
+	 *
+	 * @param text the text
+	 * @param out the array receiving the glyph indices, must be at least as long as the text.
+	 * {@code 0} means "undefined character code"
+	 * @return the number of code points, and thus of glyph indices written
+	 * @throws IllegalArgumentException if the output array is shorter than the text
+	 * @see #charIndexMap()
+	 */
+	public int getCharIndices(@NotNull CharSequence text, int @NotNull [] out) {
+		if (out.length < text.length()) {
+			throw new IllegalArgumentException("The output array is too small to hold every glyph index.");
+		}
+
+		int count = 0;
+
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = Character.codePointAt(text, i);
+			out[count++] = this.getCharIndex(codePoint);
+			i += Character.charCount(codePoint);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Dumps every mapping of the currently selected charmap into a Java-side map.
+	 * <p>
+	 * This walks the whole charmap once, after which lookups into the returned map don't need any native call.
+	 * The returned map is a snapshot, it is not updated if another charmap is selected.
+	 *
+	 * @return the character code to glyph index map
+	 */
+	public @NotNull FTCharIndexMap charIndexMap() {
+		var map = new FTCharIndexMap(256);
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var glyphIndexPtr = scratch.allocate(ValueLayout.JAVA_INT);
+			long codePoint = (long) this.natives().ft$GetFirstChar.invokeExact(this.handle, glyphIndexPtr);
+			int glyphIndex = glyphIndexPtr.get(ValueLayout.JAVA_INT, 0);
+
+			while (glyphIndex != 0) {
+				if (codePoint != FTCharIndexMap.RESERVED_CODE) {
+					map.put((int) codePoint, glyphIndex);
+				}
+
+				codePoint = (long) this.natives().ft$GetNextChar.invokeExact(this.handle, codePoint, glyphIndexPtr);
+				glyphIndex = glyphIndexPtr.get(ValueLayout.JAVA_INT, 0);
+			}
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		return map;
+	}
+
+	/**
+	 * Retrieves the advances of a range of glyphs, without loading them in the glyph slot when possible.
+	 * <p>
+	 * For scalable fonts with horizontal metrics tables, the advances are read directly from those tables
+	 * when the load flags request unhinted or light-hinted glyphs, skipping the loading of their outlines.
+	 * Otherwise, the glyphs are loaded one by one to compute their advances.
+	 *
+	 * @param firstGlyph the index of the first glyph
+	 * @param count the number of glyphs
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags},
+	 * {@link FTLoadFlags#VERTICAL_LAYOUT} retrieves vertical advances instead of horizontal ones
+	 * @param out the array receiving the advances, in 16.16 fractional pixels,
+	 * or in font units if {@link FTLoadFlags#NO_SCALE} is set
+	 * @throws IllegalArgumentException if the output array is too small
+	 */
+	public void getAdvances(int firstGlyph, int count, int loadFlags, long @NotNull [] out) {
+		if (count < 0 || out.length < count) {
+			throw new IllegalArgumentException("The output array is too small to hold every advance.");
+		}
+
+		int result;
+
+		try {
+			if (this.natives().heapAccess && isFastAdvanceLoad(loadFlags) && this.hasFastAdvances()) {
+				result = (int) this.natives().ft$GetAdvancesFast.invokeExact(
+						this.handle, firstGlyph, count, loadFlags, MemorySegment.ofArray(out)
+				);
+			} else {
+				try (var scratch = FreeTypeNative.Scratch.push()) {
+					var advances = scratch.allocate(ValueLayout.JAVA_LONG, count);
+					result = (int) this.natives().ft$GetAdvances.invokeExact(
+							this.handle, firstGlyph, count, loadFlags, advances
+					);
+					MemorySegment.copy(advances, ValueLayout.JAVA_LONG, 0, out, 0, count);
+				}
+			}
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+
+	/**
+	 * {@return {@code true} if {@code FT_Get_Advances} reads advances from the metrics tables with the given load flags,
+	 * without loading and hinting each glyph, or {@code false} otherwise}
+	 * Only such calls are short enough to be made with critical linkage.
+	 *
+	 * @param loadFlags the load flags
+	 */
+	private static boolean isFastAdvanceLoad(int loadFlags) {
+		// Unhinted loads only take the fast path without any load target, which would select a hinting algorithm.
+		return (loadFlags & FTLoadFlags.NO_SCALE) != 0
+				|| ((loadFlags & FTLoadFlags.NO_HINTING) != 0 && ((loadFlags >> 16) & 15) == 0);
+	}
+
+	/**
+	 * {@return {@code true} if the fast path of {@code FT_Get_Advances} only reads metrics tables from memory
+	 * for this face, or {@code false} otherwise}
+	 * This is the case for scalable SFNT faces backed by memory, as long as they aren't variation fonts
+	 * or have an {@code HVAR} table, without which the advances of each instance require loading every glyph.
+	 */
+	private boolean hasFastAdvances() {
+		if (this.fastAdvances == null) {
+			long flags = this.faceFlags();
+			this.fastAdvances = this.isMemoryBacked()
+					&& (flags & (FTFaceFlags.SCALABLE | FTFaceFlags.SFNT)) == (FTFaceFlags.SCALABLE | FTFaceFlags.SFNT)
+					&& ((flags & FTFaceFlags.MULTIPLE_MASTERS) == 0 || this.hasSfntTable(HVAR_TAG));
+		}
+
+		return this.fastAdvances;
+	}
+
+	/**
+	 * {@return {@code true} if the font data of this face lives in memory, or {@code false} if it is read from a file
+	 * or a stream}
+	 */
+	boolean isMemoryBacked() {
+		return false;
+	}
+
+	private boolean hasSfntTable(long tag) {
+		int result;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var length = scratch.allocate(ValueLayout.JAVA_LONG);
+			result = (int) this.natives().ft$LoadSfntTable.invokeExact(this.handle, tag, 0L, MemorySegment.NULL, length);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+		return result == 0;
+	}
+
+	/**
+	 * {@return {@code true} if this face holds kerning information, or {@code false} otherwise}
+	 *
+	 * @see FTFaceFlags#KERNING
+	 */
+	public boolean hasKerning() {
+		return (this.faceFlags() & FTFaceFlags.KERNING) != 0;
+	}
+
+	/**
+	 * Gets the horizontal kerning distance between two glyphs.
+	 * <p>
+	 * Only the kerning information of the {@code kern} table is supported,
+	 * the {@code GPOS} table requires a text shaping engine.
+	 *
+	 * @param leftGlyph the index of the left glyph
+	 * @param rightGlyph the index of the right glyph
+	 * @param mode the kerning mode, which selects the unit of the returned distance
+	 * @return the kerning distance to add to the advance of the left glyph
+	 * @see #getKernings(int[], FTKerningMode, long[])
+	 */
+	public long getKerning(int leftGlyph, int rightGlyph, @NotNull FTKerningMode mode) {
+		if (!this.hasKerning()) {
+			return 0;
+		}
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var kerning = scratch.allocate(FreeTypeNative.FT_VECTOR);
+			return this.getKerning(leftGlyph, rightGlyph, mode.id(), kerning);
+		}
+	}
+
+	/**
+	 * Gets the horizontal kerning distances between each pair of consecutive glyphs, in 26.6 fractional pixels.
+	 *
+	 * @param glyphs the indices of the glyphs
+	 * @param outDeltas the array receiving the kerning distances,
+	 * the distance at index {@code i} is the one between {@code glyphs[i]} and {@code glyphs[i + 1]}
+	 * @see #getKernings(int[], FTKerningMode, long[])
+	 */
+	public void getKernings(int @NotNull [] glyphs, long @NotNull [] outDeltas) {
+		this.getKernings(glyphs, FTKerningMode.DEFAULT, outDeltas);
+	}
+
+	/**
+	 * Gets the horizontal kerning distances between each pair of consecutive glyphs.
+	 * <p>
+	 * If this face does not hold any kerning information, the distances are all set to {@code 0}
+	 * without calling FreeType at all.
+	 *
+	 * @param glyphs the indices of the glyphs
+	 * @param mode the kerning mode, which selects the unit of the returned distances
+	 * @param outDeltas the array receiving the kerning distances, which must hold at least {@code glyphs.length - 1} values,
+	 * the distance at index {@code i} is the one between {@code glyphs[i]} and {@code glyphs[i + 1]}
+	 * @throws IllegalArgumentException if the output array is too small
+	 */
+	public void getKernings(int @NotNull [] glyphs, @NotNull FTKerningMode mode, long @NotNull [] outDeltas) {
+		int pairs = Math.max(glyphs.length - 1, 0);
+
+		if (outDeltas.length < pairs) {
+			throw new IllegalArgumentException("The output array is too small to hold every kerning distance.");
+		}
+
+		if (!this.hasKerning()) {
+			Arrays.fill(outDeltas, 0, pairs, 0);
+			return;
+		}
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var kerning = scratch.allocate(FreeTypeNative.FT_VECTOR);
+
+			for (int i = 0; i < pairs; i++) {
+				outDeltas[i] = this.getKerning(glyphs[i], glyphs[i + 1], mode.id(), kerning);
+			}
+		}
+	}
+
+	private long getKerning(int leftGlyph, int rightGlyph, int mode, MemorySegment kerning) {
+		int result;
+
+		try {
+			result = (int) this.natives().ft$GetKerning.invokeExact(
+					this.handle, leftGlyph, rightGlyph, mode, kerning
+			);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+
+		return kerning.get(ValueLayout.JAVA_LONG, 0);
+	}
+
+	/**
+	 * Walks the currently selected charmap, and collects the character codes it maps as sorted ranges.
+	 *
+	 * @return the inclusive ranges of mapped character codes, as consecutive start and end pairs
+	 */
+	int[] charRanges() {
+		var ranges = new int[32];
+		int count = 0;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var glyphIndexPtr = scratch.allocate(ValueLayout.JAVA_INT);
+			long codePoint = (long) this.natives().ft$GetFirstChar.invokeExact(this.handle, glyphIndexPtr);
+
+			while (glyphIndexPtr.get(ValueLayout.JAVA_INT, 0) != 0) {
+				if (count != 0 && ranges[count - 1] + 1 == codePoint) {
+					ranges[count - 1] = (int) codePoint;
+				} else {
+					if (count == ranges.length) {
+						ranges = Arrays.copyOf(ranges, count * 2);
+					}
+
+					ranges[count++] = (int) codePoint;
+					ranges[count++] = (int) codePoint;
+				}
+
+				codePoint = (long) this.natives().ft$GetNextChar.invokeExact(this.handle, codePoint, glyphIndexPtr);
+			}
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		return Arrays.copyOf(ranges, count);
+	}
+
+	/**
+	 * Loads a glyph into the {@linkplain #glyph() glyph slot} of this face.
+	 *
+	 * @param glyphIndex the index of the glyph in the font file
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags}
+	 * @return the glyph slot of this face, holding the loaded glyph
+	 * @see FTLoadFlags
+	 */
+	public @NotNull FTGlyphSlot loadGlyph(int glyphIndex, int loadFlags) {
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
+		int result;
+
+		try {
+			result = (int) this.natives().ft$LoadGlyph.invokeExact(
+					this.handle, glyphIndex, loadFlags
+			);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+
+		if (Instrumentation.ENABLED && (loadFlags & FTLoadFlags.RENDER) != 0) {
+			Instrumentation.glyphRendered(this.glyph, System.nanoTime() - start);
+		}
+
+		return this.glyph;
+	}
+
+	/**
+	 * Loads the glyph of a given character code into the {@linkplain #glyph() glyph slot} of this face.
+	 * This function uses the currently selected charmap to do the mapping.
+	 *
+	 * @param codePoint the character code
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags}
+	 * @return the glyph slot of this face, holding the loaded glyph
+	 * @see FTLoadFlags
+	 */
+	public @NotNull FTGlyphSlot loadChar(long codePoint, int loadFlags) {
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
+		int result;
+
+		try {
+			result = (int) this.natives().ft$LoadChar.invokeExact(
+					this.handle, codePoint, loadFlags
+			);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+
+		if (Instrumentation.ENABLED && (loadFlags & FTLoadFlags.RENDER) != 0) {
+			Instrumentation.glyphRendered(this.glyph, System.nanoTime() - start);
+		}
+
+		return this.glyph;
+	}
+
+	/**
+	 * Renders a batch of glyphs into a caller-provided 8-bit coverage atlas.
+	 * <p>
+	 * Glyphs are loaded and rendered in a single native call each, then packed into the atlas with a simple shelf packer,
+	 * from left to right and top to bottom, in the order they are given.
+	 * The placement and metrics of each packed glyph are written to the {@code placements} array,
+	 * as described by {@link FTGlyphPlacement}, without allocating any per-glyph object.
+	 * <p>
+	 * Rendering stops at the first glyph which does not fit in the remaining atlas space.
+	 *
+	 * @param glyphIndices the indices of the glyphs to render
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags}, {@link FTLoadFlags#RENDER} is implied,
+	 * the render mode is selected with {@link FTLoadFlags#target(FTRenderMode)}
+	 * @param atlas the atlas memory, one byte per pixel
+	 * @param atlasStride the width of the atlas, which is also the distance in bytes between two atlas rows
+	 * @param padding the number of empty pixels to keep around each glyph
+	 * @param placements the array receiving {@link FTGlyphPlacement#SIZE} values per packed glyph
+	 * @return the number of glyphs which have been packed into the atlas
+	 * @throws IllegalArgumentException if the render mode does not produce 8-bit coverage,
+	 * if the atlas stride is not positive, if the padding is negative,
+	 * if the atlas is smaller than a single row, or if the placements array is too small
+	 */
+	public int renderGlyphsInto(
+			int @NotNull [] glyphIndices, int loadFlags,
+			@NotNull MemorySegment atlas, int atlasStride, int padding,
+			int @NotNull [] placements
+	) {
+		var renderMode = FTLoadFlags.targetMode(loadFlags);
+
+		if (renderMode == FTRenderMode.LCD || renderMode == FTRenderMode.LCD_V) {
+			throw new IllegalArgumentException("Cannot render " + renderMode + " glyphs into an 8-bit coverage atlas.");
+		}
+
+		return this.packGlyphs(glyphIndices, loadFlags, null, atlas, atlasStride, padding, placements);
+	}
+
+	/**
+	 * Renders a batch of glyphs as signed distance fields into a caller-provided 8-bit atlas.
+	 * <p>
+	 * A distance field stores for each pixel its distance to the glyph outline, instead of its coverage.
+	 * Value {@code 128} lies on the outline, higher values lie inside the glyph, and lower values outside of it,
+	 * up to the spread distance. Such an atlas can be sampled to draw the glyphs sharply at many scales,
+	 * so it only needs to be rendered once, usually at a moderate pixel size.
+	 * <p>
+	 * Outline glyphs are rendered with the {@code sdf} renderer, and bitmap glyphs with the {@code bsdf} renderer.
+	 * Their spread is a property global to the FreeType library instance this face belongs to,
+	 * which is set before rendering.
+	 * Glyphs are packed as described by {@link #renderGlyphsInto(int[], int, MemorySegment, int, int, int[])}.
+	 * <p>
+	 * This requires FreeType 2.11 or later.
+	 *
+	 * @param glyphIndices the indices of the glyphs to render
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags} used to load the glyphs before rendering them,
+	 * {@link FTLoadFlags#RENDER} is ignored
+	 * @param options the signed distance field options
+	 * @param atlas the atlas memory, one byte per pixel
+	 * @param atlasStride the width of the atlas, which is also the distance in bytes between two atlas rows
+	 * @param placements the array receiving {@link FTGlyphPlacement#SIZE} values per packed glyph
+	 * @return the number of glyphs which have been packed into the atlas
+	 * @throws IllegalArgumentException if the atlas stride is not positive, if the atlas is smaller than a single row,
+	 * or if the placements array is too small
+	 * @throws FreeTypeException if the signed distance field renderers are not available
+	 */
+	public int renderSdfGlyphsInto(
+			int @NotNull [] glyphIndices, int loadFlags, @NotNull FTSdfOptions options,
+			@NotNull MemorySegment atlas, int atlasStride,
+			int @NotNull [] placements
+	) {
+		var library = this.glyph.library();
+		FreeType.setProperty(library, "sdf", "spread", options.spread());
+		FreeType.setProperty(library, "bsdf", "spread", options.spread());
+
+		return this.packGlyphs(
+				glyphIndices, loadFlags & ~FTLoadFlags.RENDER, FTRenderMode.SDF,
+				atlas, atlasStride, options.padding(), placements
+		);
+	}
+
+	private int packGlyphs(
+			int[] glyphIndices, int loadFlags, @Nullable FTRenderMode renderMode,
+			MemorySegment atlas, int atlasStride, int padding,
+			int[] placements
+	) {
+		if (atlasStride <= 0) {
+			throw new IllegalArgumentException("The atlas stride must be positive.");
+		}
+
+		if (padding < 0) {
+			throw new IllegalArgumentException("The padding cannot be negative.");
+		}
+
+		if (atlas.byteSize() < atlasStride) {
+			throw new IllegalArgumentException("The atlas must hold at least one row.");
+		}
+
+		if (placements.length < (long) glyphIndices.length * FTGlyphPlacement.SIZE) {
+			throw new IllegalArgumentException("The placements array is too small to hold every glyph placement.");
+		}
+
+		long atlasHeight = atlas.byteSize() / atlasStride;
+		var bitmap = this.glyph.bitmap();
+		int x = padding;
+		int y = padding;
+		int shelfHeight = 0;
+
+		for (int i = 0; i < glyphIndices.length; i++) {
+			if (renderMode == null) {
+				this.loadGlyph(glyphIndices[i], loadFlags | FTLoadFlags.RENDER);
+			} else {
+				this.loadGlyph(glyphIndices[i], loadFlags).renderGlyph(renderMode);
+			}
+
+			int width = bitmap.width();
+			int height = bitmap.rows();
+
+			if (x + width + padding > atlasStride) {
+				x = padding;
+				y += shelfHeight + padding;
+				shelfHeight = 0;
+			}
+
+			if (x + width + padding > atlasStride || y + height + padding > atlasHeight) {
+				return i;
+			}
+
+			if (width != 0 && height != 0) {
+				bitmap.copyCoverageTo(atlas, (long) y * atlasStride + x, atlasStride);
+			}
+
+			int placement = i * FTGlyphPlacement.SIZE;
+			placements[placement + FTGlyphPlacement.X] = x;
+			placements[placement + FTGlyphPlacement.Y] = y;
+			placements[placement + FTGlyphPlacement.WIDTH] = width;
+			placements[placement + FTGlyphPlacement.HEIGHT] = height;
+			placements[placement + FTGlyphPlacement.BEARING_X] = this.glyph.bitmapLeft();
+			placements[placement + FTGlyphPlacement.BEARING_Y] = this.glyph.bitmapTop();
+			placements[placement + FTGlyphPlacement.ADVANCE_X] = (int) this.glyph.advanceX();
+			placements[placement + FTGlyphPlacement.ADVANCE_Y] = (int) this.glyph.advanceY();
+
+			x += width + padding;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+
+		return glyphIndices.length;
 	}
 
 	@Override
 	public void close() {
+		if (this.sizes != null) {
+			// FT_Done_Face releases every size of the face.
+			this.sizes.forEach(FTSize::markReleased);
+			this.sizes = null;
+		}
+
 		int result;
 
 		try {
-			result = (int) FreeTypeNative.get().ft$DoneFace.invokeExact(this.handle);
+			result = (int) this.natives().ft$DoneFace.invokeExact(this.handle);
 		} catch (Throwable e) {
 			throw new AssertionError("Should not reach here.", e);
 		}
 
+		if (this.registration != null) {
+			this.registration.release();
+		}
+
 		if (result != 0) {
 			throw new FreeTypeException(result, FreeType.getErrorString(result));
 		}
 	}
 
+	/**
+	 * Represents a face object created from font data in memory.
+	 * <p>
+	 * The face holds a reference to its font data, which is released alongside this face.
+	 */
 	static class FromMemory extends FTFace {
-		private final Arena arena;
+		private final FontData fontData;
+
+		public FromMemory(FontData fontData, MemorySegment handle) {
+			super(handle);
+			this.fontData = fontData;
+		}
+
+		FontData fontData() {
+			return this.fontData;
+		}
+
+		@Override
+		boolean isMemoryBacked() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+			super.close();
+			this.fontData.release();
+		}
+	}
+
+	/**
+	 * Represents a face object whose font data is read on demand from a {@link FontStream}.
+	 * <p>
+	 * The face owns its stream, which is closed alongside this face.
+	 */
+	static class FromStream extends FTFace {
+		private final FaceStream stream;
 
-		public FromMemory(Arena arena, MemorySegment handle) {
+		FromStream(FaceStream stream, MemorySegment handle) {
 			super(handle);
-			this.arena = arena;
+			this.stream = stream;
+		}
+
+		@Override
+		FreeTypeNative natives() {
+			return FreeTypeNative.withUpcalls();
+		}
+
+		@Override
+		void rethrowSourceError() {
+			try {
+				this.stream.rethrowError();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
 		}
 
 		@Override
 		public void close() {
 			super.close();
-			this.arena.close();
+			this.stream.close();
 		}
 	}
 }
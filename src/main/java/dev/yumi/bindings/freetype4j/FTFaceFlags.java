@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+/**
+ * Holds the bit flags describing the properties of a face.
+ *
+ * @see FTFace#faceFlags()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTFaceFlags {
+	/**
+	 * The face contains outline glyphs, which can be scaled.
+	 */
+	public static final long SCALABLE = 1;
+	/**
+	 * The face contains bitmap strikes.
+	 */
+	public static final long FIXED_SIZES = 1 << 1;
+	/**
+	 * The face contains fixed-width characters, like Courier or Fira Code.
+	 */
+	public static final long FIXED_WIDTH = 1 << 2;
+	/**
+	 * The face uses the SFNT storage scheme, like TrueType and OpenType fonts.
+	 */
+	public static final long SFNT = 1 << 3;
+	/**
+	 * The face contains horizontal glyph metrics.
+	 */
+	public static final long HORIZONTAL = 1 << 4;
+	/**
+	 * The face contains vertical glyph metrics.
+	 */
+	public static final long VERTICAL = 1 << 5;
+	/**
+	 * The face contains kerning information, which can be retrieved with {@link FTFace#getKerning(int, int, FTKerningMode)}.
+	 */
+	public static final long KERNING = 1 << 6;
+	/**
+	 * The face contains multiple masters and is capable of interpolating between them.
+	 */
+	public static final long MULTIPLE_MASTERS = 1 << 8;
+	/**
+	 * The face contains glyph names, which can be retrieved with {@code FT_Get_Glyph_Name}.
+	 */
+	public static final long GLYPH_NAMES = 1 << 9;
+	/**
+	 * The face has a native hinter.
+	 */
+	public static final long HINTER = 1 << 11;
+	/**
+	 * The face is CID-keyed.
+	 */
+	public static final long CID_KEYED = 1 << 12;
+	/**
+	 * The face needs its native hinter to be rendered correctly.
+	 */
+	public static final long TRICKY = 1 << 13;
+	/**
+	 * The face has color glyph tables.
+	 */
+	public static final long COLOR = 1 << 14;
+	/**
+	 * The face has been altered to a variation instance.
+	 */
+	public static final long VARIATION = 1 << 15;
+	/**
+	 * The face has an SVG table.
+	 */
+	public static final long SVG = 1 << 16;
+	/**
+	 * The face has an {@code sbix} table.
+	 */
+	public static final long SBIX = 1 << 17;
+	/**
+	 * The face has an {@code sbix} table which must be rendered as overlays.
+	 */
+	public static final long SBIX_OVERLAY = 1 << 18;
+
+	private FTFaceFlags() {
+		throw new UnsupportedOperationException("FTFaceFlags only contains static definitions.");
+	}
+}
@@ -0,0 +1,533 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Represents a cache of rendered glyph bitmaps and their metrics.
+ * <p>
+ * Glyphs are keyed by face, pixel size, load flags, glyph index and variation coordinates of the face.
+ * Their bitmaps are stored off-heap, and the least recently used glyphs are evicted
+ * once the native memory reserved for the bitmaps exceeds the byte budget.
+ * <p>
+ * Glyphs are rendered with {@linkplain FTSize sizes} owned by this cache, one per face and pixel size,
+ * which are only activated for the duration of the render: the active size of the face is left unchanged.
+ * <p>
+ * Bitmaps are allocated in power-of-two blocks, carved out of slabs of blocks of the same size.
+ * The blocks of evicted glyphs are reused by later glyphs, and a slab is released as soon as all its blocks are free.
+ * The byte budget applies to the whole slabs, free blocks included.
+ * <p>
+ * Like face objects, a glyph cache is not thread-safe and must only be used from the thread which created it.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTGlyphCache implements AutoCloseable {
+	private static final int MIN_BLOCK_SIZE = 64;
+	private static final long MAX_SLAB_SIZE = 16 * 1024;
+
+	private final LinkedHashMap<Key, Glyph> glyphs = new LinkedHashMap<>(256, .75f, true);
+	private final Key lookupKey = new Key();
+	private final IdentityHashMap<FTFace, FaceSizes> sizes = new IdentityHashMap<>();
+	@SuppressWarnings("unchecked")
+	private final ArrayDeque<Slab>[] partialSlabs = new ArrayDeque[Long.SIZE];
+	private final long byteBudget;
+	private final long slabSize;
+	private long byteSize;
+	private long hits;
+	private long misses;
+	private long evictions;
+	private boolean closed;
+
+	/**
+	 * Creates a new glyph cache.
+	 *
+	 * @param byteBudget the maximum number of bytes of native memory to reserve for bitmaps in this cache
+	 */
+	public FTGlyphCache(long byteBudget) {
+		if (byteBudget < 0) {
+			throw new IllegalArgumentException("The byte budget cannot be negative.");
+		}
+
+		this.byteBudget = byteBudget;
+		// Slabs are kept small relative to the budget, so a few partially used slabs can't exceed it on their own.
+		this.slabSize = Math.clamp(Long.highestOneBit(Math.max(byteBudget, 1)) >> 2, MIN_BLOCK_SIZE, MAX_SLAB_SIZE);
+	}
+
+	/**
+	 * Gets a rendered glyph from this cache, loading and rendering it on cache miss.
+	 * <p>
+	 * On cache miss, the glyph is rendered with a size of this cache set to the given pixel size on both axes,
+	 * the active size of the face is restored afterward.
+	 *
+	 * @param face the face to render the glyph with
+	 * @param pixelSize the nominal width and height of the glyph, in pixels
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags}, {@link FTLoadFlags#RENDER} is implied
+	 * @param glyphIndex the index of the glyph
+	 * @return the cached glyph, which remains valid until it is evicted from this cache
+	 * @throws IllegalStateException if this cache is closed
+	 */
+	public @NotNull Glyph get(@NotNull FTFace face, int pixelSize, int loadFlags, int glyphIndex) {
+		if (this.closed) {
+			throw new IllegalStateException("Cannot get a glyph from a closed cache.");
+		}
+
+		int variationGeneration = face.variationGeneration();
+		var glyph = this.glyphs.get(this.lookupKey.set(face, pixelSize, loadFlags, glyphIndex, variationGeneration));
+		this.lookupKey.face = null;
+
+		if (Instrumentation.ENABLED) {
+			Instrumentation.cacheLookup("FTGlyphCache", glyph != null);
+		}
+
+		if (glyph != null) {
+			this.hits++;
+			return glyph;
+		}
+
+		this.misses++;
+
+		var previousSize = face.activeSizeHandle();
+
+		try {
+			face.activateSize(this.sizeOf(face, pixelSize).handle());
+			glyph = this.render(face.loadGlyph(glyphIndex, loadFlags | FTLoadFlags.RENDER));
+		} finally {
+			// The active size may only be missing if every size of the face has been closed.
+			if (!previousSize.equals(MemorySegment.NULL)) {
+				face.activateSize(previousSize);
+			}
+		}
+
+		this.glyphs.put(new Key().set(face, pixelSize, loadFlags, glyphIndex, variationGeneration), glyph);
+		this.trim();
+
+		return glyph;
+	}
+
+	/**
+	 * Evicts every glyph of the given face from this cache, and closes the sizes this cache created for it.
+	 * <p>
+	 * This should be called before closing a face which has been used with this cache.
+	 *
+	 * @param face the face
+	 */
+	public void evict(@NotNull FTFace face) {
+		var iterator = this.glyphs.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+
+			if (entry.getKey().face == face) {
+				iterator.remove();
+				this.free(entry.getValue());
+			}
+		}
+
+		var faceSizes = this.sizes.remove(face);
+
+		if (faceSizes != null) {
+			faceSizes.close();
+		}
+	}
+
+	/**
+	 * Evicts every glyph from this cache, and releases the memory of their bitmaps.
+	 */
+	public void clear() {
+		this.glyphs.values().forEach(this::free);
+		this.glyphs.clear();
+	}
+
+	/**
+	 * {@return the number of glyphs in this cache}
+	 */
+	public int size() {
+		return this.glyphs.size();
+	}
+
+	/**
+	 * {@return the number of bytes of native memory currently reserved for bitmaps by this cache}
+	 */
+	public long byteSize() {
+		return this.byteSize;
+	}
+
+	/**
+	 * {@return the maximum number of bytes of native memory reserved for bitmaps by this cache}
+	 */
+	public long byteBudget() {
+		return this.byteBudget;
+	}
+
+	/**
+	 * {@return the number of lookups which have been served from this cache}
+	 */
+	public long hits() {
+		return this.hits;
+	}
+
+	/**
+	 * {@return the number of lookups which required a glyph to be rendered}
+	 */
+	public long misses() {
+		return this.misses;
+	}
+
+	/**
+	 * {@return the number of glyphs which have been evicted to stay within the byte budget}
+	 */
+	public long evictions() {
+		return this.evictions;
+	}
+
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+
+		this.closed = true;
+		this.clear();
+		this.sizes.values().forEach(FaceSizes::close);
+		this.sizes.clear();
+	}
+
+	/**
+	 * {@return the size of this cache for the given face and pixel size, created on first use}
+	 * The sizes of a face are recreated once its variation coordinates change.
+	 *
+	 * @param face the face
+	 * @param pixelSize the pixel size
+	 */
+	private FTSize sizeOf(FTFace face, int pixelSize) {
+		var faceSizes = this.sizes.get(face);
+
+		if (faceSizes != null && faceSizes.variationGeneration != face.variationGeneration()) {
+			faceSizes.close();
+			faceSizes = null;
+		}
+
+		if (faceSizes == null) {
+			faceSizes = new FaceSizes(face.variationGeneration());
+			this.sizes.put(face, faceSizes);
+		}
+
+		var size = faceSizes.sizes.get(pixelSize);
+
+		if (size == null) {
+			size = face.newSize();
+			faceSizes.sizes.put(pixelSize, size);
+			face.activateSize(size.handle());
+			// The size is only active while rendering, size-dependent caches of the face are left valid.
+			face.setPixelSizes(pixelSize, pixelSize, false);
+		}
+
+		return size;
+	}
+
+	private void trim() {
+		var iterator = this.glyphs.values().iterator();
+
+		// The most recently used glyph is always kept, as it is about to be returned.
+		while (this.byteSize > this.byteBudget && this.glyphs.size() > 1) {
+			var glyph = iterator.next();
+			iterator.remove();
+			this.free(glyph);
+			this.evictions++;
+		}
+	}
+
+	private Glyph render(FTGlyphSlot slot) {
+		var bitmap = slot.bitmap();
+		int rows = bitmap.rows();
+		int pitch = bitmap.rowByteSize();
+		Slab slab = null;
+		var block = MemorySegment.NULL;
+		var pixels = MemorySegment.NULL;
+
+		if (rows != 0 && pitch != 0) {
+			long byteSize = (long) rows * pitch;
+			slab = this.slabFor(Math.max(MIN_BLOCK_SIZE, Long.highestOneBit(byteSize - 1) << 1));
+			block = slab.allocate();
+			pixels = block.asSlice(0, byteSize);
+			bitmap.copyTo(pixels, 0, pitch);
+		}
+
+		return new Glyph(
+				slab, block, pixels, bitmap.pixelMode(), bitmap.width(), rows, pitch,
+				slot.bitmapLeft(), slot.bitmapTop(), slot.advanceX(), slot.advanceY()
+		);
+	}
+
+	/**
+	 * {@return a slab with at least one free block of the given size, created if every slab of that size is full}
+	 *
+	 * @param blockSize the block size, a power of two
+	 */
+	private Slab slabFor(long blockSize) {
+		int sizeClass = Long.numberOfTrailingZeros(blockSize);
+		var partial = this.partialSlabs[sizeClass];
+
+		if (partial == null) {
+			partial = this.partialSlabs[sizeClass] = new ArrayDeque<>();
+		}
+
+		var slab = partial.peek();
+
+		if (slab == null) {
+			slab = new Slab(sizeClass, blockSize, (int) Math.max(1, this.slabSize / blockSize));
+			partial.push(slab);
+			this.byteSize += slab.memory.byteSize();
+		}
+
+		if (slab.freeCount == 1) {
+			// The last free block is about to be taken.
+			partial.pop();
+		}
+
+		return slab;
+	}
+
+	private void free(Glyph glyph) {
+		var slab = glyph.slab;
+
+		if (slab == null) {
+			return;
+		}
+
+		var partial = this.partialSlabs[slab.sizeClass];
+
+		if (slab.freeCount == 0) {
+			partial.push(slab);
+		}
+
+		slab.release(glyph.block);
+
+		if (slab.freeCount == slab.blocks.length) {
+			// Every block is free, the slab can be released.
+			partial.remove(slab);
+			this.byteSize -= slab.memory.byteSize();
+			slab.arena.close();
+		}
+	}
+
+	/**
+	 * Represents a rendered glyph held by a {@link FTGlyphCache}.
+	 * <p>
+	 * The pixels are stored top to bottom, without row padding:
+	 * the distance between two rows is {@link #pitch()} bytes.
+	 * Once the glyph has been evicted, its pixels must no longer be accessed, as their memory is reused by other glyphs.
+	 */
+	public static final class Glyph {
+		private final @Nullable Slab slab;
+		private final MemorySegment block;
+		private final MemorySegment pixels;
+		private final FTPixelMode pixelMode;
+		private final int width;
+		private final int rows;
+		private final int pitch;
+		private final int bitmapLeft;
+		private final int bitmapTop;
+		private final long advanceX;
+		private final long advanceY;
+
+		private Glyph(
+				@Nullable Slab slab, MemorySegment block, MemorySegment pixels, FTPixelMode pixelMode,
+				int width, int rows, int pitch, int bitmapLeft, int bitmapTop, long advanceX, long advanceY
+		) {
+			this.slab = slab;
+			this.block = block;
+			this.pixels = pixels;
+			this.pixelMode = pixelMode;
+			this.width = width;
+			this.rows = rows;
+			this.pitch = pitch;
+			this.bitmapLeft = bitmapLeft;
+			this.bitmapTop = bitmapTop;
+			this.advanceX = advanceX;
+			this.advanceY = advanceY;
+		}
+
+		/**
+		 * {@return the pixels of this glyph, or {@link MemorySegment#NULL} if this glyph has no bitmap}
+		 */
+		@Contract(pure = true)
+		public @NotNull MemorySegment pixels() {
+			return this.pixels;
+		}
+
+		/**
+		 * {@return the pixel mode of this glyph's bitmap}
+		 */
+		@Contract(pure = true)
+		public FTPixelMode pixelMode() {
+			return this.pixelMode;
+		}
+
+		/**
+		 * {@return the width in pixels of this glyph's bitmap}
+		 */
+		@Contract(pure = true)
+		public int width() {
+			return this.width;
+		}
+
+		/**
+		 * {@return the number of rows of this glyph's bitmap}
+		 */
+		@Contract(pure = true)
+		public int rows() {
+			return this.rows;
+		}
+
+		/**
+		 * {@return the distance in bytes between two rows of this glyph's bitmap}
+		 */
+		@Contract(pure = true)
+		public int pitch() {
+			return this.pitch;
+		}
+
+		/**
+		 * {@return the distance in integer pixels from the pen position to the leftmost border of the bitmap}
+		 */
+		@Contract(pure = true)
+		public int bitmapLeft() {
+			return this.bitmapLeft;
+		}
+
+		/**
+		 * {@return the distance in integer pixels from the pen position to the topmost border of the bitmap}
+		 * Upwards is positive.
+		 */
+		@Contract(pure = true)
+		public int bitmapTop() {
+			return this.bitmapTop;
+		}
+
+		/**
+		 * {@return the horizontal advance of this glyph, in 26.6 fractional pixels}
+		 */
+		@Contract(pure = true)
+		public long advanceX() {
+			return this.advanceX;
+		}
+
+		/**
+		 * {@return the vertical advance of this glyph, in 26.6 fractional pixels}
+		 */
+		@Contract(pure = true)
+		public long advanceY() {
+			return this.advanceY;
+		}
+	}
+
+	/**
+	 * Represents the key of a cached glyph.
+	 * <p>
+	 * Lookups reuse a single mutable key to avoid allocating on cache hits,
+	 * keys stored in the cache are never mutated.
+	 */
+	private static final class Key {
+		private FTFace face;
+		private int pixelSize;
+		private int loadFlags;
+		private int glyphIndex;
+		private int variationGeneration;
+
+		private Key set(FTFace face, int pixelSize, int loadFlags, int glyphIndex, int variationGeneration) {
+			this.face = face;
+			this.pixelSize = pixelSize;
+			this.loadFlags = loadFlags;
+			this.glyphIndex = glyphIndex;
+			this.variationGeneration = variationGeneration;
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || o instanceof Key other
+					&& this.face == other.face
+					&& this.pixelSize == other.pixelSize
+					&& this.loadFlags == other.loadFlags
+					&& this.glyphIndex == other.glyphIndex
+					&& this.variationGeneration == other.variationGeneration;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.face);
+			result = 31 * result + this.pixelSize;
+			result = 31 * result + this.loadFlags;
+			result = 31 * result + this.glyphIndex;
+			return 31 * result + this.variationGeneration;
+		}
+	}
+
+	/**
+	 * Represents a slab of equally sized blocks, with its own arena so it can be released once all its blocks are free.
+	 */
+	private static final class Slab {
+		private final int sizeClass;
+		private final Arena arena = Arena.ofConfined();
+		private final MemorySegment memory;
+		private final MemorySegment[] blocks;
+		private int freeCount;
+
+		private Slab(int sizeClass, long blockSize, int blockCount) {
+			this.sizeClass = sizeClass;
+			this.memory = this.arena.allocate(blockSize * blockCount, MIN_BLOCK_SIZE);
+			this.blocks = new MemorySegment[blockCount];
+
+			// Lower blocks are handed out first.
+			for (int i = 0; i < blockCount; i++) {
+				this.blocks[i] = this.memory.asSlice((blockCount - 1 - i) * blockSize, blockSize);
+			}
+
+			this.freeCount = blockCount;
+		}
+
+		private MemorySegment allocate() {
+			return this.blocks[--this.freeCount];
+		}
+
+		private void release(MemorySegment block) {
+			this.blocks[this.freeCount++] = block;
+		}
+	}
+
+	/**
+	 * Represents the sizes created by a cache for a face, for a single set of variation coordinates.
+	 */
+	private static final class FaceSizes {
+		private final HashMap<Integer, FTSize> sizes = new HashMap<>();
+		private final int variationGeneration;
+
+		private FaceSizes(int variationGeneration) {
+			this.variationGeneration = variationGeneration;
+		}
+
+		private void close() {
+			// The sizes are never left active, closing them leaves size-dependent caches of the face valid.
+			this.sizes.values().forEach(size -> size.close(false));
+			this.sizes.clear();
+		}
+	}
+}
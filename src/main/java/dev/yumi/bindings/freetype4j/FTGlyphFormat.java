@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.List;
+
+/**
+ * Represents the format of a glyph image stored in a {@linkplain FTGlyphSlot glyph slot}.
+ *
+ * @see FTGlyphSlot#format()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum FTGlyphFormat {
+	NONE(0),
+	COMPOSITE("comp"),
+	BITMAP("bits"),
+	OUTLINE("outl"),
+	PLOTTER("plot"),
+	SVG("SVG ");
+
+	public static final List<FTGlyphFormat> VALUES = List.of(values());
+	private final int id;
+
+	FTGlyphFormat(int id) {
+		this.id = id;
+	}
+
+	FTGlyphFormat(String id) {
+		this((id.codePointAt(0) << 24)
+				| (id.codePointAt(1) << 16)
+				| (id.codePointAt(2) << 8)
+				| id.codePointAt(3));
+	}
+
+	public int id() {
+		return this.id;
+	}
+
+	public static FTGlyphFormat byId(int id) {
+		for (var format : VALUES) {
+			if (format.id == id) {
+				return format;
+			}
+		}
+
+		return null;
+	}
+}
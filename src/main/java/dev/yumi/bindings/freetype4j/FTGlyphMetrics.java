@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Represents the metrics of a single glyph.
+ * <p>
+ * The values are expressed in 26.6 fractional pixels, or in font units if the glyph has been loaded
+ * with {@link FTLoadFlags#NO_SCALE}.
+ *
+ * @see FTGlyphSlot#metrics()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTGlyphMetrics {
+	static final MemoryLayout LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_LONG.withName("width"),
+			ValueLayout.JAVA_LONG.withName("height"),
+			ValueLayout.JAVA_LONG.withName("horiBearingX"),
+			ValueLayout.JAVA_LONG.withName("horiBearingY"),
+			ValueLayout.JAVA_LONG.withName("horiAdvance"),
+			ValueLayout.JAVA_LONG.withName("vertBearingX"),
+			ValueLayout.JAVA_LONG.withName("vertBearingY"),
+			ValueLayout.JAVA_LONG.withName("vertAdvance")
+	).withName("FT_Glyph_Metrics");
+	private static final long WIDTH_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("width"));
+	private static final long HEIGHT_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("height"));
+	private static final long HORI_BEARING_X_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("horiBearingX"));
+	private static final long HORI_BEARING_Y_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("horiBearingY"));
+	private static final long HORI_ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("horiAdvance"));
+	private static final long VERT_BEARING_X_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("vertBearingX"));
+	private static final long VERT_BEARING_Y_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("vertBearingY"));
+	private static final long VERT_ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("vertAdvance"));
+
+	private final MemorySegment handle;
+
+	public FTGlyphMetrics(MemorySegment handle) {
+		this.handle = handle;
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Glyph Metrics object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the width of the glyph}
+	 */
+	public long width() {
+		return this.handle.get(ValueLayout.JAVA_LONG, WIDTH_OFFSET);
+	}
+
+	/**
+	 * {@return the height of the glyph}
+	 */
+	public long height() {
+		return this.handle.get(ValueLayout.JAVA_LONG, HEIGHT_OFFSET);
+	}
+
+	/**
+	 * {@return the left side bearing for horizontal layout}
+	 */
+	public long horiBearingX() {
+		return this.handle.get(ValueLayout.JAVA_LONG, HORI_BEARING_X_OFFSET);
+	}
+
+	/**
+	 * {@return the top side bearing for horizontal layout}
+	 */
+	public long horiBearingY() {
+		return this.handle.get(ValueLayout.JAVA_LONG, HORI_BEARING_Y_OFFSET);
+	}
+
+	/**
+	 * {@return the advance width for horizontal layout}
+	 */
+	public long horiAdvance() {
+		return this.handle.get(ValueLayout.JAVA_LONG, HORI_ADVANCE_OFFSET);
+	}
+
+	/**
+	 * {@return the left side bearing for vertical layout}
+	 */
+	public long vertBearingX() {
+		return this.handle.get(ValueLayout.JAVA_LONG, VERT_BEARING_X_OFFSET);
+	}
+
+	/**
+	 * {@return the top side bearing for vertical layout}
+	 */
+	public long vertBearingY() {
+		return this.handle.get(ValueLayout.JAVA_LONG, VERT_BEARING_Y_OFFSET);
+	}
+
+	/**
+	 * {@return the advance height for vertical layout}
+	 */
+	public long vertAdvance() {
+		return this.handle.get(ValueLayout.JAVA_LONG, VERT_ADVANCE_OFFSET);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+/**
+ * Holds the layout of the flat placement records written by batch glyph rendering.
+ * <p>
+ * Each rendered glyph {@code i} is described by {@link #SIZE} consecutive {@code int} values,
+ * starting at index {@code i * SIZE} of the placement array. For example the atlas position of the glyph
+ * is read with {@code placements[i * SIZE + X]} and {@code placements[i * SIZE + Y]}.
+ *
+ * @see FTFace#renderGlyphsInto(int[], int, java.lang.foreign.MemorySegment, int, int, int[])
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTGlyphPlacement {
+	/**
+	 * The horizontal position in pixels of the glyph bitmap in the atlas.
+	 */
+	public static final int X = 0;
+	/**
+	 * The vertical position in pixels of the glyph bitmap in the atlas.
+	 */
+	public static final int Y = 1;
+	/**
+	 * The width in pixels of the glyph bitmap.
+	 */
+	public static final int WIDTH = 2;
+	/**
+	 * The height in pixels of the glyph bitmap.
+	 */
+	public static final int HEIGHT = 3;
+	/**
+	 * The distance in pixels from the pen position to the left border of the glyph bitmap.
+	 */
+	public static final int BEARING_X = 4;
+	/**
+	 * The distance in pixels from the pen position to the top border of the glyph bitmap, upwards is positive.
+	 */
+	public static final int BEARING_Y = 5;
+	/**
+	 * The horizontal advance of the glyph, in 26.6 fractional pixels.
+	 */
+	public static final int ADVANCE_X = 6;
+	/**
+	 * The vertical advance of the glyph, in 26.6 fractional pixels.
+	 */
+	public static final int ADVANCE_Y = 7;
+	/**
+	 * The number of {@code int} values describing a single glyph.
+	 */
+	public static final int SIZE = 8;
+
+	private FTGlyphPlacement() {
+		throw new UnsupportedOperationException("FTGlyphPlacement only contains static definitions.");
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Represents a glyph slot, a container where individual glyphs can be loaded and rendered.
+ * <p>
+ * Each face object owns a single glyph slot, whose content is replaced each time a glyph is loaded
+ * through {@link FTFace#loadGlyph(int, int)} or {@link FTFace#loadChar(long, int)}.
+ * The views returned by this slot, like {@link #metrics()}, {@link #bitmap()} and {@link #outline()}, are reused between glyphs,
+ * and always reflect the last loaded glyph.
+ *
+ * @see FTFace#glyph()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTGlyphSlot {
+	static final MemoryLayout LAYOUT = MemoryLayout.structLayout(
+			FreeTypeNative.C_POINTER.withName("library"),
+			FreeTypeNative.C_POINTER.withName("face"),
+			FreeTypeNative.C_POINTER.withName("next"),
+			ValueLayout.JAVA_INT.withName("glyph_index"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.FT_GENERIC.withName("generic"),
+			FTGlyphMetrics.LAYOUT.withName("metrics"),
+			ValueLayout.JAVA_LONG.withName("linearHoriAdvance"),
+			ValueLayout.JAVA_LONG.withName("linearVertAdvance"),
+			FreeTypeNative.FT_VECTOR.withName("advance"),
+			ValueLayout.JAVA_INT.withName("format"),
+			MemoryLayout.paddingLayout(4),
+			FTBitmap.LAYOUT.withName("bitmap"),
+			ValueLayout.JAVA_INT.withName("bitmap_left"),
+			ValueLayout.JAVA_INT.withName("bitmap_top"),
+			FTOutline.LAYOUT.withName("outline"),
+			ValueLayout.JAVA_INT.withName("num_subglyphs"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.C_POINTER.withName("subglyphs"),
+			FreeTypeNative.C_POINTER.withName("control_data"),
+			ValueLayout.JAVA_LONG.withName("control_len"),
+			ValueLayout.JAVA_LONG.withName("lsb_delta"),
+			ValueLayout.JAVA_LONG.withName("rsb_delta"),
+			FreeTypeNative.C_POINTER.withName("other"),
+			FreeTypeNative.C_POINTER.withName("internal")
+	).withName("FT_GlyphSlotRec");
+	private static final long LIBRARY_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("library"));
+	private static final long METRICS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("metrics"));
+	private static final long OUTLINE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("outline"));
+	private static final long BITMAP_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("bitmap"));
+	private static final long GLYPH_INDEX_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("glyph_index"));
+	private static final long LINEAR_HORI_ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("linearHoriAdvance"));
+	private static final long LINEAR_VERT_ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("linearVertAdvance"));
+	private static final long ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("advance"));
+	private static final long FORMAT_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("format"));
+	private static final long BITMAP_LEFT_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("bitmap_left"));
+	private static final long BITMAP_TOP_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("bitmap_top"));
+	private static final long LSB_DELTA_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("lsb_delta"));
+	private static final long RSB_DELTA_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("rsb_delta"));
+
+	private final FTFace parent;
+	private final MemorySegment handle;
+	private final FTGlyphMetrics metrics;
+	private final FTBitmap bitmap;
+	private final FTOutline outline;
+
+	public FTGlyphSlot(FTFace parent, MemorySegment handle) {
+		this.parent = parent;
+		this.handle = handle.reinterpret(LAYOUT.byteSize());
+
+		this.metrics = new FTGlyphMetrics(this.handle.asSlice(METRICS_OFFSET, FTGlyphMetrics.LAYOUT));
+		this.bitmap = new FTBitmap(this.handle.asSlice(BITMAP_OFFSET, FTBitmap.LAYOUT));
+		this.outline = new FTOutline(this.handle.asSlice(OUTLINE_OFFSET, FTOutline.LAYOUT));
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Glyph Slot object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the parent face of this glyph slot}
+	 */
+	@Contract(pure = true)
+	public @NotNull FTFace parent() {
+		return this.parent;
+	}
+
+	/**
+	 * {@return the handle of the FreeType library instance this glyph slot belongs to}
+	 */
+	MemorySegment library() {
+		return this.handle.get(FreeTypeNative.C_POINTER, LIBRARY_OFFSET);
+	}
+
+	/**
+	 * {@return the index of the glyph loaded in this slot}
+	 */
+	public int glyphIndex() {
+		return this.handle.get(ValueLayout.JAVA_INT, GLYPH_INDEX_OFFSET);
+	}
+
+	/**
+	 * {@return the metrics of the glyph loaded in this slot}
+	 */
+	@Contract(pure = true)
+	public @NotNull FTGlyphMetrics metrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * {@return the advance width of the unhinted glyph, in 16.16 fractional pixels}
+	 */
+	public long linearHoriAdvance() {
+		return this.handle.get(ValueLayout.JAVA_LONG, LINEAR_HORI_ADVANCE_OFFSET);
+	}
+
+	/**
+	 * {@return the advance height of the unhinted glyph, in 16.16 fractional pixels}
+	 */
+	public long linearVertAdvance() {
+		return this.handle.get(ValueLayout.JAVA_LONG, LINEAR_VERT_ADVANCE_OFFSET);
+	}
+
+	/**
+	 * {@return the horizontal component of the transformed advance, in 26.6 fractional pixels}
+	 */
+	public long advanceX() {
+		return this.handle.get(ValueLayout.JAVA_LONG, ADVANCE_OFFSET);
+	}
+
+	/**
+	 * {@return the vertical component of the transformed advance, in 26.6 fractional pixels}
+	 */
+	public long advanceY() {
+		return this.handle.get(ValueLayout.JAVA_LONG, ADVANCE_OFFSET + ValueLayout.JAVA_LONG.byteSize());
+	}
+
+	/**
+	 * {@return the format of the glyph image loaded in this slot}
+	 */
+	public FTGlyphFormat format() {
+		return FTGlyphFormat.byId(this.handle.get(ValueLayout.JAVA_INT, FORMAT_OFFSET));
+	}
+
+	/**
+	 * {@return the bitmap of this glyph slot}
+	 * It only holds meaningful data if the glyph {@linkplain #format() format} is {@link FTGlyphFormat#BITMAP}.
+	 */
+	@Contract(pure = true)
+	public @NotNull FTBitmap bitmap() {
+		return this.bitmap;
+	}
+
+	/**
+	 * {@return the outline of this glyph slot}
+	 * It only holds meaningful data if the glyph {@linkplain #format() format} is {@link FTGlyphFormat#OUTLINE}.
+	 */
+	@Contract(pure = true)
+	public @NotNull FTOutline outline() {
+		return this.outline;
+	}
+
+	/**
+	 * {@return the distance in integer pixels from the pen position to the leftmost border of the bitmap}
+	 */
+	public int bitmapLeft() {
+		return this.handle.get(ValueLayout.JAVA_INT, BITMAP_LEFT_OFFSET);
+	}
+
+	/**
+	 * {@return the distance in integer pixels from the pen position to the topmost border of the bitmap}
+	 * Upwards is positive.
+	 */
+	public int bitmapTop() {
+		return this.handle.get(ValueLayout.JAVA_INT, BITMAP_TOP_OFFSET);
+	}
+
+	/**
+	 * {@return the difference between hinted and unhinted left side bearing, in 26.6 fractional pixels}
+	 */
+	public long lsbDelta() {
+		return this.handle.get(ValueLayout.JAVA_LONG, LSB_DELTA_OFFSET);
+	}
+
+	/**
+	 * {@return the difference between hinted and unhinted right side bearing, in 26.6 fractional pixels}
+	 */
+	public long rsbDelta() {
+		return this.handle.get(ValueLayout.JAVA_LONG, RSB_DELTA_OFFSET);
+	}
+
+	/**
+	 * Converts the glyph image loaded in this slot to a bitmap.
+	 * <p>
+	 * Once rendered, the pixels can be accessed through {@link #bitmap()}.
+	 *
+	 * @param renderMode the render mode to use
+	 */
+	public void renderGlyph(FTRenderMode renderMode) {
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
+		int result;
+
+		try {
+			result = (int) this.parent.natives().ft$RenderGlyph.invokeExact(
+					this.handle, renderMode.id()
+			);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		}
+
+		this.parent.rethrowSourceError();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+
+		if (Instrumentation.ENABLED) {
+			Instrumentation.glyphRendered(this, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.List;
+
+/**
+ * Represents the modes in which kerning distances can be retrieved.
+ *
+ * @see FTFace#getKerning(int, int, FTKerningMode)
+ * @see FTFace#getKernings(int[], FTKerningMode, long[])
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum FTKerningMode {
+	/**
+	 * Returns scaled and grid-fitted kerning distances, in 26.6 fractional pixels.
+	 */
+	DEFAULT,
+	/**
+	 * Returns scaled but un-grid-fitted kerning distances, in 26.6 fractional pixels.
+	 */
+	UNFITTED,
+	/**
+	 * Returns the kerning distances in font units.
+	 */
+	UNSCALED;
+
+	public static final List<FTKerningMode> VALUES = List.of(values());
+
+	/**
+	 * {@return the native identifier of this kerning mode}
+	 */
+	public int id() {
+		return this.ordinal();
+	}
+
+	public static FTKerningMode byId(int id) {
+		if (id < 0 || id >= VALUES.size()) {
+			return null;
+		}
+
+		return VALUES.get(id);
+	}
+}
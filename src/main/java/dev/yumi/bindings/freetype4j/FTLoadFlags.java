@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+/**
+ * Holds the bit flags which can be passed when loading a glyph.
+ *
+ * @see FTFace#loadGlyph(int, int)
+ * @see FTFace#loadChar(long, int)
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTLoadFlags {
+	/**
+	 * The default value, loads a scaled and hinted glyph image, preferring embedded bitmaps if available.
+	 */
+	public static final int DEFAULT = 0;
+	/**
+	 * Don't scale the loaded outline glyph but keep it in font units, implies {@link #NO_HINTING} and {@link #NO_BITMAP}.
+	 */
+	public static final int NO_SCALE = 1;
+	/**
+	 * Disable hinting.
+	 */
+	public static final int NO_HINTING = 1 << 1;
+	/**
+	 * Call {@link FTGlyphSlot#renderGlyph(FTRenderMode)} after the glyph is loaded,
+	 * using the render mode given by the {@linkplain #target(FTRenderMode) load target}.
+	 */
+	public static final int RENDER = 1 << 2;
+	/**
+	 * Ignore bitmap strikes when loading.
+	 */
+	public static final int NO_BITMAP = 1 << 3;
+	/**
+	 * Load the glyph for vertical text layout.
+	 */
+	public static final int VERTICAL_LAYOUT = 1 << 4;
+	/**
+	 * Prefer the auto-hinter over the font's native hinter.
+	 */
+	public static final int FORCE_AUTOHINT = 1 << 5;
+	/**
+	 * Make the font driver perform pedantic verifications during glyph loading and hinting.
+	 */
+	public static final int PEDANTIC = 1 << 7;
+	/**
+	 * Don't load composite glyphs recursively, only useful for glyph introspection.
+	 */
+	public static final int NO_RECURSE = 1 << 10;
+	/**
+	 * Ignore the transform matrix set by {@code FT_Set_Transform}.
+	 */
+	public static final int IGNORE_TRANSFORM = 1 << 11;
+	/**
+	 * Render monochrome bitmaps when used with {@link #RENDER}.
+	 */
+	public static final int MONOCHROME = 1 << 12;
+	/**
+	 * Keep the linear advance widths in font units instead of 16.16 fractional pixels.
+	 */
+	public static final int LINEAR_DESIGN = 1 << 13;
+	/**
+	 * Only load embedded bitmap strikes, and fail otherwise.
+	 */
+	public static final int SBITS_ONLY = 1 << 14;
+	/**
+	 * Disable the auto-hinter.
+	 */
+	public static final int NO_AUTOHINT = 1 << 15;
+	/**
+	 * Load colored glyphs if available.
+	 */
+	public static final int COLOR = 1 << 20;
+	/**
+	 * Compute glyph metrics from the glyph data instead of the metrics tables.
+	 */
+	public static final int COMPUTE_METRICS = 1 << 21;
+	/**
+	 * Only request the metrics of embedded bitmaps, without loading the bitmap itself.
+	 */
+	public static final int BITMAP_METRICS_ONLY = 1 << 22;
+	/**
+	 * Ignore SVG glyph data when loading.
+	 */
+	public static final int NO_SVG = 1 << 24;
+
+	private FTLoadFlags() {
+		throw new UnsupportedOperationException("FTLoadFlags only contains static definitions.");
+	}
+
+	/**
+	 * Computes the load target flags for a given render mode.
+	 * <p>
+	 * The load target selects the hinting algorithm to use, and the render mode used by {@link #RENDER}.
+	 *
+	 * @param renderMode the render mode to target
+	 * @return the load target flags, to combine with other load flags
+	 */
+	public static int target(FTRenderMode renderMode) {
+		return (renderMode.id() & 15) << 16;
+	}
+
+	/**
+	 * {@return the render mode targeted by the given load flags}
+	 *
+	 * @param loadFlags the load flags
+	 */
+	public static FTRenderMode targetMode(int loadFlags) {
+		return FTRenderMode.byId((loadFlags >> 16) & 15);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents a named instance of a variable font, like "Bold" or "Condensed Light".
+ *
+ * @param coordinates the design coordinates of this instance, one per axis, in 16.16 fixed-point
+ * @param nameId the identifier of the name of this instance in the {@code name} table
+ * @param postScriptNameId the identifier of the PostScript name of this instance in the {@code name} table,
+ * or {@code 0xffff} if there is none
+ *
+ * @see FTVariations#namedInstances()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FTNamedInstance(long @NotNull [] coordinates, int nameId, int postScriptNameId) {
+	public FTNamedInstance {
+		coordinates = coordinates.clone();
+	}
+
+	@Override
+	public long @NotNull [] coordinates() {
+		return this.coordinates.clone();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || o instanceof FTNamedInstance other
+				&& this.nameId == other.nameId
+				&& this.postScriptNameId == other.postScriptNameId
+				&& Arrays.equals(this.coordinates, other.coordinates);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Arrays.hashCode(this.coordinates);
+		result = 31 * result + this.nameId;
+		return 31 * result + this.postScriptNameId;
+	}
+
+	@Override
+	public @NotNull String toString() {
+		return "FTNamedInstance[coordinates=" + Arrays.toString(this.coordinates)
+				+ ", nameId=" + this.nameId
+				+ ", postScriptNameId=" + this.postScriptNameId + "]";
+	}
+}
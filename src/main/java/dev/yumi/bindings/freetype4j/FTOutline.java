@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Represents a scalable glyph outline, made of contours of line segments and Bézier arcs.
+ * <p>
+ * An outline obtained from a {@linkplain FTGlyphSlot#outline() glyph slot} is a live view:
+ * it only holds meaningful data if the glyph loaded in the slot is an {@linkplain FTGlyphFormat#OUTLINE outline},
+ * and its content changes every time a new glyph is loaded into the slot.
+ * <p>
+ * The point coordinates are expressed in 26.6 fractional pixels,
+ * or in font units if the glyph has been loaded with {@link FTLoadFlags#NO_SCALE}.
+ *
+ * @see FTGlyphSlot#outline()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTOutline {
+	static final MemoryLayout LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_SHORT.withName("n_contours"),
+			ValueLayout.JAVA_SHORT.withName("n_points"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.C_POINTER.withName("points"),
+			FreeTypeNative.C_POINTER.withName("tags"),
+			FreeTypeNative.C_POINTER.withName("contours"),
+			ValueLayout.JAVA_INT.withName("flags"),
+			MemoryLayout.paddingLayout(4)
+	).withName("FT_Outline");
+	private static final long N_CONTOURS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("n_contours"));
+	private static final long N_POINTS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("n_points"));
+	private static final long POINTS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("points"));
+	private static final long TAGS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("tags"));
+	private static final long CONTOURS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("contours"));
+	private static final long FLAGS_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("flags"));
+
+	private final MemorySegment handle;
+
+	public FTOutline(MemorySegment handle) {
+		this.handle = handle;
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Outline object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the number of contours in this outline}
+	 */
+	public int contourCount() {
+		return Short.toUnsignedInt(this.handle.get(ValueLayout.JAVA_SHORT, N_CONTOURS_OFFSET));
+	}
+
+	/**
+	 * {@return the number of points in this outline}
+	 */
+	public int pointCount() {
+		return Short.toUnsignedInt(this.handle.get(ValueLayout.JAVA_SHORT, N_POINTS_OFFSET));
+	}
+
+	/**
+	 * {@return the horizontal coordinate of a point of this outline}
+	 *
+	 * @param index the index of the point
+	 */
+	public long pointX(int index) {
+		return this.handle.get(FreeTypeNative.C_POINTER, POINTS_OFFSET)
+				.getAtIndex(ValueLayout.JAVA_LONG, 2L * checkIndex(index, this.pointCount()));
+	}
+
+	/**
+	 * {@return the vertical coordinate of a point of this outline}
+	 *
+	 * @param index the index of the point
+	 */
+	public long pointY(int index) {
+		return this.handle.get(FreeTypeNative.C_POINTER, POINTS_OFFSET)
+				.getAtIndex(ValueLayout.JAVA_LONG, 2L * checkIndex(index, this.pointCount()) + 1);
+	}
+
+	/**
+	 * {@return the tag of a point of this outline}
+	 * Bit 0 is set if the point is on the curve, otherwise bit 1 is set for a cubic control point,
+	 * and unset for a conic control point.
+	 *
+	 * @param index the index of the point
+	 */
+	public byte tag(int index) {
+		return this.handle.get(FreeTypeNative.C_POINTER, TAGS_OFFSET)
+				.get(ValueLayout.JAVA_BYTE, checkIndex(index, this.pointCount()));
+	}
+
+	/**
+	 * {@return the index of the last point of a contour of this outline}
+	 *
+	 * @param index the index of the contour
+	 */
+	public int contourEnd(int index) {
+		return Short.toUnsignedInt(this.handle.get(FreeTypeNative.C_POINTER, CONTOURS_OFFSET)
+				.getAtIndex(ValueLayout.JAVA_SHORT, checkIndex(index, this.contourCount())));
+	}
+
+	/**
+	 * {@return the {@code FT_OUTLINE_XXX} bit flags of this outline}
+	 * They describe how the outline was produced, and how it should be filled.
+	 */
+	public int flags() {
+		return this.handle.get(ValueLayout.JAVA_INT, FLAGS_OFFSET);
+	}
+
+	/**
+	 * Decomposes this outline into a sequence of move, line, conic and cubic drawing commands.
+	 * <p>
+	 * The given path is cleared first, and its buffers are grown as needed.
+	 * No object is created per segment, which makes it suitable for decomposing many glyphs with the same path.
+	 *
+	 * @param path the path receiving the drawing commands
+	 * @return the given path
+	 * @throws FreeTypeException if this outline is invalid
+	 */
+	public @NotNull FTOutlinePath decompose(@NotNull FTOutlinePath path) {
+		path.clear();
+		OutlineDecomposer.decompose(this.handle, path);
+		return path;
+	}
+
+	private static int checkIndex(int index, int count) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+		}
+
+		return index;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/**
+ * Represents a glyph path made of drawing commands, stored in compact primitive buffers.
+ * <p>
+ * Each command is a verb in {@link #verbs()}, followed by its points in {@link #coordinates()},
+ * as interleaved X and Y values: one point for {@link #MOVE_TO} and {@link #LINE_TO},
+ * two points for {@link #CONIC_TO} with the control point first,
+ * and three points for {@link #CUBIC_TO} with the two control points first.
+ * The last point of a command is the starting point of the next one.
+ * Only the first {@link #verbCount()} verbs and {@link #coordinateCount()} coordinates of those arrays are meaningful.
+ *
+ * @see FTOutline#decompose(FTOutlinePath)
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTOutlinePath {
+	/**
+	 * Starts a new contour at the given point.
+	 */
+	public static final int MOVE_TO = 0;
+	/**
+	 * Draws a line to the given point.
+	 */
+	public static final int LINE_TO = 1;
+	/**
+	 * Draws a quadratic Bézier arc to the given point.
+	 */
+	public static final int CONIC_TO = 2;
+	/**
+	 * Draws a cubic Bézier arc to the given point.
+	 */
+	public static final int CUBIC_TO = 3;
+
+	private int[] verbs;
+	private long[] coordinates;
+	private int verbCount;
+	private int coordinateCount;
+
+	/**
+	 * Creates a new empty path.
+	 */
+	public FTOutlinePath() {
+		this(32);
+	}
+
+	/**
+	 * Creates a new empty path.
+	 *
+	 * @param capacity the initial number of commands this path can hold without growing
+	 */
+	public FTOutlinePath(int capacity) {
+		this.verbs = new int[capacity];
+		this.coordinates = new long[capacity * 4];
+	}
+
+	/**
+	 * {@return the number of drawing commands in this path}
+	 */
+	@Contract(pure = true)
+	public int verbCount() {
+		return this.verbCount;
+	}
+
+	/**
+	 * {@return the drawing commands of this path}
+	 * Only the first {@link #verbCount()} values are meaningful.
+	 */
+	@Contract(pure = true)
+	public int[] verbs() {
+		return this.verbs;
+	}
+
+	/**
+	 * {@return the number of coordinates in this path, which is twice its number of points}
+	 */
+	@Contract(pure = true)
+	public int coordinateCount() {
+		return this.coordinateCount;
+	}
+
+	/**
+	 * {@return the interleaved X and Y coordinates of the points of this path}
+	 * Only the first {@link #coordinateCount()} values are meaningful.
+	 */
+	@Contract(pure = true)
+	public long[] coordinates() {
+		return this.coordinates;
+	}
+
+	/**
+	 * Removes every drawing command from this path, keeping its buffers.
+	 */
+	public void clear() {
+		this.verbCount = 0;
+		this.coordinateCount = 0;
+	}
+
+	/**
+	 * {@return the number of points following the given drawing command}
+	 *
+	 * @param verb the drawing command
+	 */
+	public static int pointCount(int verb) {
+		return switch (verb) {
+			case MOVE_TO, LINE_TO -> 1;
+			case CONIC_TO -> 2;
+			case CUBIC_TO -> 3;
+			default -> throw new IllegalArgumentException("Unknown verb " + verb + ".");
+		};
+	}
+
+	void add(int verb, MemorySegment point) {
+		this.ensureCapacity(2);
+		this.verbs[this.verbCount++] = verb;
+		this.addPoint(point);
+	}
+
+	void add(int verb, MemorySegment control, MemorySegment point) {
+		this.ensureCapacity(4);
+		this.verbs[this.verbCount++] = verb;
+		this.addPoint(control);
+		this.addPoint(point);
+	}
+
+	void add(int verb, MemorySegment control1, MemorySegment control2, MemorySegment point) {
+		this.ensureCapacity(6);
+		this.verbs[this.verbCount++] = verb;
+		this.addPoint(control1);
+		this.addPoint(control2);
+		this.addPoint(point);
+	}
+
+	private void addPoint(MemorySegment point) {
+		this.coordinates[this.coordinateCount++] = point.get(ValueLayout.JAVA_LONG, 0);
+		this.coordinates[this.coordinateCount++] = point.get(ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG.byteSize());
+	}
+
+	private void ensureCapacity(int coordinates) {
+		if (this.verbCount == this.verbs.length) {
+			this.verbs = Arrays.copyOf(this.verbs, Math.max(this.verbs.length * 2, 16));
+		}
+
+		if (this.coordinateCount + coordinates > this.coordinates.length) {
+			this.coordinates = Arrays.copyOf(this.coordinates, Math.max(this.coordinates.length * 2, this.coordinateCount + coordinates));
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.List;
+
+/**
+ * Represents the pixel format used to store the pixels of a {@linkplain FTBitmap bitmap}.
+ *
+ * @see FTBitmap#pixelMode()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum FTPixelMode {
+	/**
+	 * Reserved value.
+	 */
+	NONE,
+	/**
+	 * A monochrome bitmap, using 1 bit per pixel.
+	 */
+	MONO,
+	/**
+	 * An 8-bit bitmap, generally used to represent anti-aliased glyph images.
+	 */
+	GRAY,
+	/**
+	 * A 2-bit per pixel bitmap, used to represent embedded anti-aliased bitmaps in font files.
+	 */
+	GRAY2,
+	/**
+	 * A 4-bit per pixel bitmap, used to represent embedded anti-aliased bitmaps in font files.
+	 */
+	GRAY4,
+	/**
+	 * An 8-bit bitmap, representing RGB or BGR decimated glyph images for LCD displays.
+	 * The bitmap is three times wider than the original glyph image.
+	 */
+	LCD,
+	/**
+	 * An 8-bit bitmap, representing RGB or BGR decimated glyph images for rotated LCD displays.
+	 * The bitmap is three times taller than the original glyph image.
+	 */
+	LCD_V,
+	/**
+	 * A 32-bit bitmap of pre-multiplied BGRA pixels, used for color glyphs.
+	 */
+	BGRA;
+
+	public static final List<FTPixelMode> VALUES = List.of(values());
+
+	/**
+	 * {@return the native identifier of this pixel mode}
+	 */
+	public int id() {
+		return this.ordinal();
+	}
+
+	/**
+	 * {@return the number of bytes needed to store a row of pixels of the given width}
+	 *
+	 * @param width the width of the row, in pixels
+	 */
+	public int rowByteSize(int width) {
+		return switch (this) {
+			case NONE -> 0;
+			case MONO -> (width + 7) >> 3;
+			case GRAY2 -> (width + 3) >> 2;
+			case GRAY4 -> (width + 1) >> 1;
+			case GRAY, LCD, LCD_V -> width;
+			case BGRA -> width << 2;
+		};
+	}
+
+	public static FTPixelMode byId(int id) {
+		if (id < 0 || id >= VALUES.size()) {
+			return null;
+		}
+
+		return VALUES.get(id);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.List;
+
+/**
+ * Represents the render modes supported by FreeType when converting a glyph image to a bitmap.
+ *
+ * @see FTGlyphSlot#renderGlyph(FTRenderMode)
+ * @see FTLoadFlags#target(FTRenderMode)
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum FTRenderMode {
+	/**
+	 * The default render mode, producing 8-bit anti-aliased bitmaps.
+	 */
+	NORMAL,
+	/**
+	 * Equivalent to {@link #NORMAL}, but selects a lighter hinting algorithm when used as a load target.
+	 */
+	LIGHT,
+	/**
+	 * Produces 1-bit monochrome bitmaps.
+	 */
+	MONO,
+	/**
+	 * Produces horizontal RGB and BGR subpixel bitmaps for LCD displays.
+	 */
+	LCD,
+	/**
+	 * Produces vertical RGB and BGR subpixel bitmaps for rotated LCD displays.
+	 */
+	LCD_V,
+	/**
+	 * Produces 8-bit signed distance field bitmaps.
+	 * <p>
+	 * This render mode is only available since FreeType 2.11.
+	 */
+	SDF;
+
+	public static final List<FTRenderMode> VALUES = List.of(values());
+
+	/**
+	 * {@return the native identifier of this render mode}
+	 */
+	public int id() {
+		return this.ordinal();
+	}
+
+	public static FTRenderMode byId(int id) {
+		if (id < 0 || id >= VALUES.size()) {
+			return null;
+		}
+
+		return VALUES.get(id);
+	}
+}
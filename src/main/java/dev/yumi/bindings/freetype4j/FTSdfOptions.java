@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+/**
+ * Represents the options of signed distance field rendering.
+ *
+ * @param spread the maximum distance in pixels represented by the distance field around the glyph outlines,
+ * which must be between {@value #MIN_SPREAD} and {@value #MAX_SPREAD}
+ * @param padding the number of empty pixels to keep around each glyph in the atlas,
+ * in addition to the spread which is already part of the rendered bitmaps
+ *
+ * @see FTFace#renderSdfGlyphsInto(int[], int, FTSdfOptions, java.lang.foreign.MemorySegment, int, int[])
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FTSdfOptions(int spread, int padding) {
+	/**
+	 * The minimum spread supported by FreeType.
+	 */
+	public static final int MIN_SPREAD = 2;
+	/**
+	 * The maximum spread supported by FreeType.
+	 */
+	public static final int MAX_SPREAD = 32;
+	/**
+	 * The default options, with the default spread of FreeType and a padding of 1 pixel.
+	 */
+	public static final FTSdfOptions DEFAULT = new FTSdfOptions(8, 1);
+
+	public FTSdfOptions {
+		if (spread < MIN_SPREAD || spread > MAX_SPREAD) {
+			throw new IllegalArgumentException("The spread must be between " + MIN_SPREAD + " and " + MAX_SPREAD + ", got " + spread + ".");
+		}
+
+		if (padding < 0) {
+			throw new IllegalArgumentException("The padding cannot be negative.");
+		}
+	}
+}
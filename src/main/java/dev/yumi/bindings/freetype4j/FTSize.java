@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Represents a FreeType Size object, which holds the scaled metrics and hinting state of a face at a given character size.
+ * <p>
+ * A face can own several sizes, of which only one is active at a time:
+ * character size changes and glyph loading apply to the active size.
+ * Switching between sizes which have already been set up only swaps a pointer,
+ * instead of recomputing the scaled metrics and hinting state as {@link FTFace#setCharSize(long, long, int, int)} does.
+ * <p>
+ * A size must be closed before its face, otherwise it is released alongside its face.
+ *
+ * @see FTFace#newSize()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTSize implements AutoCloseable {
+	private static final long METRICS_OFFSET = FreeTypeNative.FT_SIZE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("metrics"));
+
+	private final FTFace face;
+	private final MemorySegment handle;
+	private final FTSizeMetrics metrics;
+	private boolean closed;
+
+	FTSize(FTFace face, MemorySegment handle) {
+		this.face = face;
+		this.handle = handle.reinterpret(FreeTypeNative.FT_SIZE_LAYOUT.byteSize());
+		this.metrics = new FTSizeMetrics(this.handle.asSlice(METRICS_OFFSET, FTSizeMetrics.LAYOUT));
+
+		ResourceTracker.sizeAllocated();
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Size object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the face which owns this size}
+	 */
+	@Contract(pure = true)
+	public @NotNull FTFace face() {
+		return this.face;
+	}
+
+	/**
+	 * {@return the metrics of this size}
+	 * The returned view reads the native metrics directly, and does not need to be fetched again after a size change.
+	 */
+	@Contract(pure = true)
+	public @NotNull FTSizeMetrics metrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * {@return {@code true} if this size is the active size of its face, or {@code false} otherwise}
+	 */
+	public boolean isActive() {
+		return !this.closed && this.face.activeSizeHandle().equals(this.handle);
+	}
+
+	/**
+	 * Makes this size the active size of its face.
+	 * <p>
+	 * Subsequent character size changes and glyph loads of the face apply to this size.
+	 */
+	public void activate() {
+		if (this.closed) {
+			throw new IllegalStateException("Cannot activate a closed size.");
+		}
+
+		this.face.activateSize(this.handle);
+	}
+
+	/**
+	 * Marks this size as released by the destruction of its face.
+	 */
+	void markReleased() {
+		if (!this.closed) {
+			this.closed = true;
+			ResourceTracker.sizeFreed();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.close(true);
+	}
+
+	/**
+	 * Closes this size.
+	 * <p>
+	 * Size-dependent caches of the face may only be left valid if this size is not active,
+	 * and has never been active while they were in use.
+	 *
+	 * @param invalidate {@code true} if size-dependent caches of the face must be invalidated, or {@code false} otherwise
+	 */
+	void close(boolean invalidate) {
+		if (this.closed) {
+			return;
+		}
+
+		this.closed = true;
+		this.face.removeSize(this);
+		ResourceTracker.sizeFreed();
+
+		int result;
+
+		try {
+			result = (int) this.face.natives().ft$DoneSize.invokeExact(this.handle);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		} finally {
+			if (invalidate) {
+				this.face.invalidateSize();
+			}
+		}
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+}
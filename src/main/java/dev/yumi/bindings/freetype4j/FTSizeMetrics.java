@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Represents the metrics of a face scaled to a given character size.
+ * <p>
+ * Except for the pixels per EM and scale values, the metrics are expressed in 26.6 fractional pixels.
+ *
+ * @see FTFace#sizeMetrics()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FTSizeMetrics {
+	static final MemoryLayout LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_SHORT.withName("x_ppem"),
+			ValueLayout.JAVA_SHORT.withName("y_ppem"),
+			MemoryLayout.paddingLayout(4),
+			ValueLayout.JAVA_LONG.withName("x_scale"),
+			ValueLayout.JAVA_LONG.withName("y_scale"),
+			ValueLayout.JAVA_LONG.withName("ascender"),
+			ValueLayout.JAVA_LONG.withName("descender"),
+			ValueLayout.JAVA_LONG.withName("height"),
+			ValueLayout.JAVA_LONG.withName("max_advance")
+	).withName("FT_Size_Metrics");
+	private static final long X_PPEM_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("x_ppem"));
+	private static final long Y_PPEM_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("y_ppem"));
+	private static final long X_SCALE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("x_scale"));
+	private static final long Y_SCALE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("y_scale"));
+	private static final long ASCENDER_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("ascender"));
+	private static final long DESCENDER_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("descender"));
+	private static final long HEIGHT_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("height"));
+	private static final long MAX_ADVANCE_OFFSET = LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("max_advance"));
+
+	private final MemorySegment handle;
+
+	public FTSizeMetrics(MemorySegment handle) {
+		this.handle = handle;
+	}
+
+	/**
+	 * {@return the native handle of this FreeType Size Metrics object}
+	 */
+	@Contract(pure = true)
+	public @NotNull MemorySegment handle() {
+		return this.handle;
+	}
+
+	/**
+	 * {@return the horizontal size in integer pixels of the EM square}
+	 */
+	public int xPpem() {
+		return Short.toUnsignedInt(this.handle.get(ValueLayout.JAVA_SHORT, X_PPEM_OFFSET));
+	}
+
+	/**
+	 * {@return the vertical size in integer pixels of the EM square}
+	 */
+	public int yPpem() {
+		return Short.toUnsignedInt(this.handle.get(ValueLayout.JAVA_SHORT, Y_PPEM_OFFSET));
+	}
+
+	/**
+	 * {@return the 16.16 fractional scale used to convert horizontal metrics from font units to 26.6 fractional pixels}
+	 */
+	public long xScale() {
+		return this.handle.get(ValueLayout.JAVA_LONG, X_SCALE_OFFSET);
+	}
+
+	/**
+	 * {@return the 16.16 fractional scale used to convert vertical metrics from font units to 26.6 fractional pixels}
+	 */
+	public long yScale() {
+		return this.handle.get(ValueLayout.JAVA_LONG, Y_SCALE_OFFSET);
+	}
+
+	/**
+	 * {@return the ascender, rounded up to an integer pixel value}
+	 */
+	public long ascender() {
+		return this.handle.get(ValueLayout.JAVA_LONG, ASCENDER_OFFSET);
+	}
+
+	/**
+	 * {@return the descender, rounded down to an integer pixel value}
+	 */
+	public long descender() {
+		return this.handle.get(ValueLayout.JAVA_LONG, DESCENDER_OFFSET);
+	}
+
+	/**
+	 * {@return the height, which is the baseline-to-baseline distance, rounded to an integer pixel value}
+	 */
+	public long height() {
+		return this.handle.get(ValueLayout.JAVA_LONG, HEIGHT_OFFSET);
+	}
+
+	/**
+	 * {@return the maximum advance width, rounded to an integer pixel value}
+	 */
+	public long maxAdvance() {
+		return this.handle.get(ValueLayout.JAVA_LONG, MAX_ADVANCE_OFFSET);
+	}
+}
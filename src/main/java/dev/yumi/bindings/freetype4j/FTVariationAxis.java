@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a variation axis of a variable font, like its weight or its width.
+ * <p>
+ * The axis values are expressed in 16.16 fixed-point design units.
+ *
+ * @param name the name of the axis, like {@code "Weight"}
+ * @param tag the OpenType tag of the axis, like {@code wght}, packed in a big-endian integer
+ * @param minimum the minimum design coordinate of the axis
+ * @param defaultValue the default design coordinate of the axis
+ * @param maximum the maximum design coordinate of the axis
+ * @param nameId the identifier of the name of the axis in the {@code name} table
+ *
+ * @see FTVariations#axes()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FTVariationAxis(
+		@NotNull String name, long tag,
+		long minimum, long defaultValue, long maximum,
+		int nameId
+) {
+	/**
+	 * {@return the OpenType tag of this axis as a 4-character string, like {@code "wght"}}
+	 */
+	public @NotNull String tagName() {
+		var chars = new char[4];
+
+		for (int i = 0; i < 4; i++) {
+			chars[i] = (char) ((this.tag >> (24 - i * 8)) & 0xff);
+		}
+
+		return new String(chars);
+	}
+}
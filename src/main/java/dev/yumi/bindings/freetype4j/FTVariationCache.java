@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+/**
+ * Represents a cache of variable font instances, keyed by their design coordinates.
+ * <p>
+ * Each instance is a face object sharing the font data of a base face, configured with
+ * {@link FTFace#setVarDesignCoordinates(long[])}. At most {@code capacity} faces are ever opened:
+ * once the cache is full, the least recently used instance is reconfigured with the new coordinates
+ * instead of opening a new face, which doesn't reload nor re-parse the font.
+ * This makes animating a variation axis, like the weight, cheap.
+ * <p>
+ * The faces returned by this cache are owned by it, and must not be closed.
+ * A returned face keeps its coordinates until it is recycled for other coordinates,
+ * which can only happen during a later call to {@link #get(long[])}.
+ * <p>
+ * Like face objects, a variation cache is not thread-safe and must only be used from the thread which created it.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FTVariationCache implements AutoCloseable {
+	private final FreeType freetype;
+	private final FontData fontData;
+	private final long faceIndex;
+	private final int capacity;
+	private final LinkedHashMap<Key, FTFace> instances = new LinkedHashMap<>(16, .75f, true);
+	private final Key lookupKey = new Key();
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a new variation cache.
+	 *
+	 * @param freetype the FreeType library instance used to open the instance faces
+	 * @param face the base face, which must have been created from font data in memory or from a file path,
+	 * and which must be kept open as long as this cache is used
+	 * @param capacity the maximum number of instance faces to keep open
+	 * @throws IllegalArgumentException if the base face does not share its font data, or if the capacity is not positive
+	 */
+	public FTVariationCache(@NotNull FreeType freetype, @NotNull FTFace face, int capacity) {
+		if (!(face instanceof FTFace.FromMemory fromMemory)) {
+			throw new IllegalArgumentException("The base face must be created from font data in memory or from a file path.");
+		}
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity must be positive.");
+		}
+
+		this.freetype = freetype;
+		this.fontData = fromMemory.fontData();
+		this.faceIndex = face.faceIndex();
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Gets an instance face configured with the given design coordinates.
+	 *
+	 * @param coordinates the design coordinates in 16.16 fixed-point, one per {@linkplain FTVariations#axes() axis}
+	 * @return the instance face, owned by this cache
+	 */
+	public @NotNull FTFace get(long @NotNull [] coordinates) {
+		var instance = this.instances.get(this.lookupKey.set(coordinates));
+		this.lookupKey.coordinates = null;
+
+		if (Instrumentation.ENABLED) {
+			Instrumentation.cacheLookup("FTVariationCache", instance != null);
+		}
+
+		if (instance != null) {
+			this.hits++;
+			return instance;
+		}
+
+		this.misses++;
+
+		if (this.instances.size() < this.capacity) {
+			if (!this.fontData.acquire()) {
+				throw new IllegalStateException("The font data of the base face has already been freed.");
+			}
+
+			instance = this.freetype.newFace(this.fontData, this.faceIndex);
+		} else {
+			// Recycle the least recently used instance.
+			var iterator = this.instances.values().iterator();
+			instance = iterator.next();
+			iterator.remove();
+		}
+
+		try {
+			instance.setVarDesignCoordinates(coordinates);
+		} catch (RuntimeException e) {
+			instance.close();
+			throw e;
+		}
+
+		this.instances.put(new Key().set(coordinates.clone()), instance);
+		return instance;
+	}
+
+	/**
+	 * {@return the number of instance faces currently open}
+	 */
+	public int size() {
+		return this.instances.size();
+	}
+
+	/**
+	 * {@return the number of lookups which have been served by an instance already configured}
+	 */
+	public long hits() {
+		return this.hits;
+	}
+
+	/**
+	 * {@return the number of lookups which required an instance to be opened or reconfigured}
+	 */
+	public long misses() {
+		return this.misses;
+	}
+
+	/**
+	 * Closes every instance face of this cache.
+	 */
+	@Override
+	public void close() {
+		this.instances.values().forEach(FTFace::close);
+		this.instances.clear();
+	}
+
+	private static final class Key {
+		private long[] coordinates;
+		private int hash;
+
+		private Key set(long[] coordinates) {
+			this.coordinates = coordinates;
+			this.hash = Arrays.hashCode(coordinates);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || o instanceof Key other
+					&& this.hash == other.hash
+					&& Arrays.equals(this.coordinates, other.coordinates);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+}
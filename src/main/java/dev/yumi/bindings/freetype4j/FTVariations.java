@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the variation axes and the named instances of a variable font.
+ *
+ * @param axes the variation axes
+ * @param namedInstances the named instances
+ *
+ * @see FTFace#variations()
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FTVariations(
+		@NotNull @Unmodifiable List<FTVariationAxis> axes,
+		@NotNull @Unmodifiable List<FTNamedInstance> namedInstances
+) {
+	static final MemoryLayout MM_VAR_LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_INT.withName("num_axis"),
+			ValueLayout.JAVA_INT.withName("num_designs"),
+			ValueLayout.JAVA_INT.withName("num_namedstyles"),
+			MemoryLayout.paddingLayout(4),
+			FreeTypeNative.C_POINTER.withName("axis"),
+			FreeTypeNative.C_POINTER.withName("namedstyle")
+	).withName("FT_MM_Var");
+	static final MemoryLayout AXIS_LAYOUT = MemoryLayout.structLayout(
+			FreeTypeNative.C_POINTER.withName("name"),
+			ValueLayout.JAVA_LONG.withName("minimum"),
+			ValueLayout.JAVA_LONG.withName("def"),
+			ValueLayout.JAVA_LONG.withName("maximum"),
+			ValueLayout.JAVA_LONG.withName("tag"),
+			ValueLayout.JAVA_INT.withName("strid"),
+			MemoryLayout.paddingLayout(4)
+	).withName("FT_Var_Axis");
+	static final MemoryLayout NAMED_STYLE_LAYOUT = MemoryLayout.structLayout(
+			FreeTypeNative.C_POINTER.withName("coords"),
+			ValueLayout.JAVA_INT.withName("strid"),
+			ValueLayout.JAVA_INT.withName("psid")
+	).withName("FT_Var_Named_Style");
+	private static final long NUM_AXIS_OFFSET = MM_VAR_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_axis"));
+	private static final long NUM_NAMED_STYLES_OFFSET = MM_VAR_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("num_namedstyles"));
+	private static final long AXIS_OFFSET = MM_VAR_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("axis"));
+	private static final long NAMED_STYLE_OFFSET = MM_VAR_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("namedstyle"));
+	private static final long AXIS_NAME_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("name"));
+	private static final long AXIS_MINIMUM_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("minimum"));
+	private static final long AXIS_DEFAULT_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("def"));
+	private static final long AXIS_MAXIMUM_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("maximum"));
+	private static final long AXIS_TAG_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("tag"));
+	private static final long AXIS_NAME_ID_OFFSET = AXIS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("strid"));
+	private static final long NAMED_STYLE_COORDS_OFFSET = NAMED_STYLE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("coords"));
+	private static final long NAMED_STYLE_NAME_ID_OFFSET = NAMED_STYLE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("strid"));
+	private static final long NAMED_STYLE_PS_NAME_ID_OFFSET = NAMED_STYLE_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("psid"));
+
+	public FTVariations {
+		axes = List.copyOf(axes);
+		namedInstances = List.copyOf(namedInstances);
+	}
+
+	/**
+	 * Copies the content of a native {@code FT_MM_Var} structure.
+	 *
+	 * @param mmVar the {@code FT_MM_Var} structure
+	 * @return the variations
+	 */
+	static FTVariations of(MemorySegment mmVar) {
+		mmVar = mmVar.reinterpret(MM_VAR_LAYOUT.byteSize());
+
+		int axisCount = mmVar.get(ValueLayout.JAVA_INT, NUM_AXIS_OFFSET);
+		int namedStyleCount = mmVar.get(ValueLayout.JAVA_INT, NUM_NAMED_STYLES_OFFSET);
+		var axisArray = mmVar.get(FreeTypeNative.C_POINTER, AXIS_OFFSET);
+		var namedStyleArray = mmVar.get(FreeTypeNative.C_POINTER, NAMED_STYLE_OFFSET);
+
+		var axes = new ArrayList<FTVariationAxis>(axisCount);
+
+		for (int i = 0; i < axisCount; i++) {
+			var axis = axisArray.asSlice(i * AXIS_LAYOUT.byteSize(), AXIS_LAYOUT);
+			var name = axis.get(FreeTypeNative.C_POINTER, AXIS_NAME_OFFSET);
+
+			axes.add(new FTVariationAxis(
+					name.equals(MemorySegment.NULL) ? "" : name.getString(0),
+					axis.get(ValueLayout.JAVA_LONG, AXIS_TAG_OFFSET),
+					axis.get(ValueLayout.JAVA_LONG, AXIS_MINIMUM_OFFSET),
+					axis.get(ValueLayout.JAVA_LONG, AXIS_DEFAULT_OFFSET),
+					axis.get(ValueLayout.JAVA_LONG, AXIS_MAXIMUM_OFFSET),
+					axis.get(ValueLayout.JAVA_INT, AXIS_NAME_ID_OFFSET)
+			));
+		}
+
+		var namedInstances = new ArrayList<FTNamedInstance>(namedStyleCount);
+
+		for (int i = 0; i < namedStyleCount; i++) {
+			var namedStyle = namedStyleArray.asSlice(i * NAMED_STYLE_LAYOUT.byteSize(), NAMED_STYLE_LAYOUT);
+			var coordinates = new long[axisCount];
+			MemorySegment.copy(
+					namedStyle.get(FreeTypeNative.C_POINTER, NAMED_STYLE_COORDS_OFFSET), ValueLayout.JAVA_LONG, 0,
+					coordinates, 0, axisCount
+			);
+
+			namedInstances.add(new FTNamedInstance(
+					coordinates,
+					namedStyle.get(ValueLayout.JAVA_INT, NAMED_STYLE_NAME_ID_OFFSET),
+					namedStyle.get(ValueLayout.JAVA_INT, NAMED_STYLE_PS_NAME_ID_OFFSET)
+			));
+		}
+
+		return new FTVariations(axes, namedInstances);
+	}
+}
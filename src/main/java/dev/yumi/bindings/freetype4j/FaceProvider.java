@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Represents a pool of face objects over shared font data, for concurrent use from multiple threads.
+ * <p>
+ * FreeType forbids using a library or a face object from multiple threads at once.
+ * This provider hands out leases on independent {@link FreeType} and {@link FTFace} pairs,
+ * which are all backed by a single native copy of the font data. A leased pair is only ever used by one thread,
+ * and is returned to the pool once the lease is closed to be reused by the next thread.
+ * <p>
+ * The pool does not rely on thread-local state, which makes it suitable for virtual threads:
+ * the number of instances is bounded by the maximum given at creation, not by the number of threads.
+ * The state of a face, like its character size or its active charmap, is kept between leases.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FaceProvider implements AutoCloseable {
+	private final FontData fontData;
+	private final long faceIndex;
+	private final Semaphore permits;
+	private final ConcurrentLinkedQueue<Instance> idle = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger liveInstances = new AtomicInteger();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private FaceProvider(FontData fontData, long faceIndex, int maxInstances) {
+		if (maxInstances <= 0) {
+			fontData.release();
+			throw new IllegalArgumentException("The maximum number of instances must be positive.");
+		}
+
+		this.fontData = fontData;
+		this.faceIndex = faceIndex;
+		this.permits = new Semaphore(maxInstances, true);
+	}
+
+	/**
+	 * Creates a face provider over a memory-mapped font file.
+	 *
+	 * @param path the path to the font file
+	 * @param faceIndex the face index, see {@link FreeType#newFace(String, long)} for the meaning of its bits
+	 * @param maxInstances the maximum number of face objects which can be leased at once
+	 * @return the face provider
+	 * @throws IOException if the font file could not be opened or mapped
+	 */
+	public static @NotNull FaceProvider ofFile(@NotNull Path path, long faceIndex, int maxInstances) throws IOException {
+		return new FaceProvider(FontData.map(path, null), faceIndex, maxInstances);
+	}
+
+	/**
+	 * Creates a face provider over font data which already lives in native memory.
+	 * <p>
+	 * The font data is only borrowed: the caller is responsible for keeping it alive and unmodified
+	 * until the provider and all its leases are closed.
+	 *
+	 * @param fontData the font data, which must be a {@linkplain MemorySegment#isNative() native} segment
+	 * @param faceIndex the face index, see {@link FreeType#newFace(String, long)} for the meaning of its bits
+	 * @param maxInstances the maximum number of face objects which can be leased at once
+	 * @return the face provider
+	 */
+	public static @NotNull FaceProvider ofMemory(@NotNull MemorySegment fontData, long faceIndex, int maxInstances) {
+		if (!fontData.isNative()) {
+			throw new IllegalArgumentException("Font data must be stored in native memory to be shared.");
+		}
+
+		return new FaceProvider(FontData.borrow(fontData), faceIndex, maxInstances);
+	}
+
+	/**
+	 * Leases a face object, waiting for one to be available if the maximum number of instances is reached.
+	 * <p>
+	 * The lease must be closed once the face object is no longer used, to return it to this provider.
+	 * Every call returns a new lease, which can only be closed once.
+	 *
+	 * @return the lease
+	 * @throws InterruptedException if the current thread has been interrupted while waiting
+	 */
+	public @NotNull Lease acquire() throws InterruptedException {
+		this.checkOpen();
+		this.permits.acquire();
+
+		try {
+			this.checkOpen();
+
+			var instance = this.idle.poll();
+
+			if (instance == null) {
+				instance = this.newInstance();
+			}
+
+			return new Lease(instance);
+		} catch (RuntimeException | Error e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Leases a face object for the duration of the given action.
+	 *
+	 * @param action the action to run with the leased face object
+	 * @param <T> the type of the result
+	 * @return the result of the action
+	 * @throws InterruptedException if the current thread has been interrupted while waiting for a face object
+	 */
+	public <T> T withFace(@NotNull Function<FTFace, T> action) throws InterruptedException {
+		try (var lease = this.acquire()) {
+			return action.apply(lease.face());
+		}
+	}
+
+	/**
+	 * {@return the number of face objects currently alive, either leased or idle}
+	 */
+	public int instanceCount() {
+		return this.liveInstances.get();
+	}
+
+	/**
+	 * Closes this provider.
+	 * <p>
+	 * Idle face objects are closed immediately, while leased face objects are closed once their lease is closed.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		Instance instance;
+		while ((instance = this.idle.poll()) != null) {
+			instance.dispose();
+		}
+
+		this.fontData.release();
+	}
+
+	private Instance newInstance() {
+		var freetype = new FreeType();
+
+		try {
+			if (!this.fontData.acquire()) {
+				throw new IllegalStateException("The font data of this face provider has already been freed.");
+			}
+
+			var instance = new Instance(freetype, freetype.newFace(this.fontData, this.faceIndex));
+			this.liveInstances.incrementAndGet();
+			return instance;
+		} catch (RuntimeException e) {
+			freetype.close();
+			throw e;
+		}
+	}
+
+	private void checkOpen() {
+		if (this.closed.get()) {
+			throw new IllegalStateException("Cannot lease a face from a closed face provider.");
+		}
+	}
+
+	/**
+	 * Represents a lease on a face object of a {@link FaceProvider}.
+	 * <p>
+	 * A lease must only be used by one thread at a time, and must be closed to return the face to its provider.
+	 * Closing a lease more than once has no effect, and a closed lease never gives access to the face again,
+	 * even after the face has been leased to another thread.
+	 */
+	public final class Lease implements AutoCloseable {
+		private final Instance instance;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Lease(Instance instance) {
+			this.instance = instance;
+		}
+
+		/**
+		 * {@return the FreeType library handle owning the leased face}
+		 *
+		 * @throws IllegalStateException if this lease has been closed
+		 */
+		public @NotNull FreeType freetype() {
+			this.checkLeased();
+			return this.instance.freetype;
+		}
+
+		/**
+		 * {@return the leased face}
+		 *
+		 * @throws IllegalStateException if this lease has been closed
+		 */
+		public @NotNull FTFace face() {
+			this.checkLeased();
+			return this.instance.face;
+		}
+
+		@Override
+		public void close() {
+			if (!this.released.compareAndSet(false, true)) {
+				return;
+			}
+
+			if (FaceProvider.this.closed.get()) {
+				this.instance.dispose();
+			} else {
+				FaceProvider.this.idle.offer(this.instance);
+
+				// The provider may have been closed concurrently, in which case it may have missed this instance.
+				if (FaceProvider.this.closed.get() && FaceProvider.this.idle.remove(this.instance)) {
+					this.instance.dispose();
+				}
+			}
+
+			FaceProvider.this.permits.release();
+		}
+
+		private void checkLeased() {
+			if (this.released.get()) {
+				throw new IllegalStateException("Cannot use a closed lease.");
+			}
+		}
+	}
+
+	/**
+	 * Represents a pooled library and face pair, handed out through one-shot {@linkplain Lease leases}.
+	 */
+	private final class Instance {
+		private final FreeType freetype;
+		private final FTFace face;
+
+		private Instance(FreeType freetype, FTFace face) {
+			this.freetype = freetype;
+			this.face = face;
+		}
+
+		private void dispose() {
+			this.face.close();
+			this.freetype.close();
+			FaceProvider.this.liveInstances.decrementAndGet();
+		}
+	}
+}
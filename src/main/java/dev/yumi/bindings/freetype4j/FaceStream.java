@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Represents the {@code FT_Stream} of a stream-backed face, whose reads are forwarded to a {@link FontStream}.
+ * <p>
+ * Each stream owns a shared arena holding its {@code FT_StreamRec} and the read upcall stub bound to it,
+ * which are released once the stream is closed alongside its face.
+ * Since FreeType calls back while the face is used, exceptions thrown by the font stream are kept
+ * and reported as a failed read, to be rethrown once the native call returns.
+ */
+final class FaceStream {
+	static final MemoryLayout STREAM_LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.ADDRESS.withName("base"),
+			ValueLayout.JAVA_LONG.withName("size"),
+			ValueLayout.JAVA_LONG.withName("pos"),
+			ValueLayout.ADDRESS.withName("descriptor"),
+			ValueLayout.ADDRESS.withName("pathname"),
+			ValueLayout.ADDRESS.withName("read"),
+			ValueLayout.ADDRESS.withName("close"),
+			ValueLayout.ADDRESS.withName("memory"),
+			ValueLayout.ADDRESS.withName("cursor"),
+			ValueLayout.ADDRESS.withName("limit")
+	).withName("FT_StreamRec");
+	static final MemoryLayout OPEN_ARGS_LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.JAVA_INT.withName("flags"),
+			MemoryLayout.paddingLayout(4),
+			ValueLayout.ADDRESS.withName("memory_base"),
+			ValueLayout.JAVA_LONG.withName("memory_size"),
+			ValueLayout.ADDRESS.withName("pathname"),
+			ValueLayout.ADDRESS.withName("stream"),
+			ValueLayout.ADDRESS.withName("driver"),
+			ValueLayout.JAVA_INT.withName("num_params"),
+			MemoryLayout.paddingLayout(4),
+			ValueLayout.ADDRESS.withName("params")
+	).withName("FT_Open_Args");
+	private static final long STREAM_SIZE_OFFSET = STREAM_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("size"));
+	private static final long STREAM_READ_OFFSET = STREAM_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("read"));
+	private static final long OPEN_ARGS_FLAGS_OFFSET = OPEN_ARGS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("flags"));
+	private static final long OPEN_ARGS_STREAM_OFFSET = OPEN_ARGS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("stream"));
+	/**
+	 * The {@code FT_OPEN_STREAM} flag of {@code FT_Open_Args}.
+	 */
+	private static final int OPEN_STREAM = 0x2;
+	private static final FunctionDescriptor READ_DESCRIPTOR = FunctionDescriptor.of(ValueLayout.JAVA_LONG,
+			ValueLayout.ADDRESS, // FT_Stream
+			ValueLayout.JAVA_LONG, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG // offset, buffer and count
+	);
+	private static final MethodHandle READ;
+
+	static {
+		try {
+			READ = MethodHandles.lookup().findVirtual(FaceStream.class, "read", MethodType.methodType(
+					long.class, MemorySegment.class, long.class, MemorySegment.class, long.class
+			));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final FontStream source;
+	private final long size;
+	private final Arena arena;
+	private final MemorySegment stream;
+	private @Nullable Throwable error;
+
+	private FaceStream(FontStream source, long size) {
+		this.source = source;
+		this.size = size;
+		this.arena = Arena.ofShared();
+		this.stream = this.arena.allocate(STREAM_LAYOUT);
+
+		this.stream.set(ValueLayout.JAVA_LONG, STREAM_SIZE_OFFSET, size);
+		this.stream.set(ValueLayout.ADDRESS, STREAM_READ_OFFSET,
+				Linker.nativeLinker().upcallStub(READ.bindTo(this), READ_DESCRIPTOR, this.arena)
+		);
+		// The close callback is left to NULL, the font stream is closed alongside the face instead.
+	}
+
+	/**
+	 * Creates the native stream of the given font stream.
+	 *
+	 * @param source the font stream, which is closed right away if the native stream could not be created
+	 * @return the native stream
+	 * @throws IOException if the size of the font stream could not be determined
+	 */
+	static FaceStream of(FontStream source) throws IOException {
+		try {
+			return new FaceStream(source, source.size());
+		} catch (IOException | RuntimeException e) {
+			try {
+				source.close();
+			} catch (IOException closeException) {
+				e.addSuppressed(closeException);
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * {@return the size of the font data, in bytes}
+	 */
+	long size() {
+		return this.size;
+	}
+
+	/**
+	 * Allocates the arguments of {@code FT_Open_Face} opening this stream.
+	 *
+	 * @param allocator the allocator of the arguments, which are only read during the call
+	 * @return the {@code FT_Open_Args} structure
+	 */
+	MemorySegment openArgs(SegmentAllocator allocator) {
+		var args = allocator.allocate(OPEN_ARGS_LAYOUT);
+		args.set(ValueLayout.JAVA_INT, OPEN_ARGS_FLAGS_OFFSET, OPEN_STREAM);
+		args.set(ValueLayout.ADDRESS, OPEN_ARGS_STREAM_OFFSET, this.stream);
+		return args;
+	}
+
+	/**
+	 * Rethrows the exception thrown by the font stream during the last native call, if any.
+	 *
+	 * @throws IOException if the font stream failed to read
+	 */
+	void rethrowError() throws IOException {
+		var error = this.error;
+
+		if (error == null) {
+			return;
+		}
+
+		this.error = null;
+
+		if (error instanceof IOException ioException) {
+			throw ioException;
+		} else if (error instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		} else if (error instanceof Error e) {
+			throw e;
+		} else {
+			throw new AssertionError(error);
+		}
+	}
+
+	private long read(MemorySegment stream, long offset, MemorySegment buffer, long count) {
+		// A count of 0 is a seek, which only has to report whether the offset is valid.
+		if (count == 0) {
+			return offset <= this.size ? 0 : 1;
+		}
+
+		try {
+			var destination = buffer.reinterpret(count).asByteBuffer();
+
+			while (destination.hasRemaining()) {
+				if (this.source.read(offset + destination.position(), destination) <= 0) {
+					break;
+				}
+			}
+
+			return destination.position();
+		} catch (Throwable e) {
+			this.error = e;
+			return 0;
+		}
+	}
+
+	/**
+	 * Closes the font stream and releases the native stream, once its face has been freed.
+	 */
+	void close() {
+		this.arena.close();
+
+		try {
+			this.source.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
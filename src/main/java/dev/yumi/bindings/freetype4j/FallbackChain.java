@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Represents an ordered chain of fallback fonts, which splits text into runs of characters to render with the same font.
+ * <p>
+ * Each character is assigned to the first font of the chain which covers it,
+ * and characters no font covers are kept in the current run, or assigned to the first font at the start of the text.
+ * To avoid needless font switches, itemization can optionally keep neutral characters — whitespace,
+ * common punctuation and combining marks — in the current run when its font covers them.
+ * Resolution only uses the in-memory {@linkplain CharCoverage coverages} of the fonts, without any native call.
+ * <p>
+ * Runs are written to a primitive array, as {@link #RUN_SIZE} consecutive values per run.
+ * A fallback chain is immutable, and can be shared between threads.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FallbackChain {
+	/**
+	 * The offset of the index of the first character of a run.
+	 */
+	public static final int RUN_START = 0;
+	/**
+	 * The offset of the index after the last character of a run.
+	 */
+	public static final int RUN_END = 1;
+	/**
+	 * The offset of the index in the chain of the font of a run.
+	 */
+	public static final int RUN_FONT = 2;
+	/**
+	 * The number of values per run.
+	 */
+	public static final int RUN_SIZE = 3;
+
+	private final CharCoverage[] coverages;
+
+	/**
+	 * Creates a new fallback chain.
+	 *
+	 * @param coverages the coverages of the fonts of the chain, in order of preference
+	 * @throws IllegalArgumentException if the chain is empty
+	 */
+	public FallbackChain(@NotNull List<CharCoverage> coverages) {
+		if (coverages.isEmpty()) {
+			throw new IllegalArgumentException("A fallback chain requires at least one font.");
+		}
+
+		this.coverages = coverages.toArray(CharCoverage[]::new);
+	}
+
+	/**
+	 * Creates a new fallback chain from faces, computing their coverages once.
+	 *
+	 * @param faces the faces of the chain, in order of preference
+	 * @return the fallback chain, whose font indices are the indices of the given faces
+	 * @throws IllegalArgumentException if the chain is empty
+	 */
+	public static @NotNull FallbackChain ofFaces(@NotNull List<? extends FTFace> faces) {
+		return new FallbackChain(faces.stream().map(CharCoverage::of).toList());
+	}
+
+	/**
+	 * {@return the coverages of the fonts of this chain}
+	 */
+	@Contract(pure = true)
+	public @NotNull @Unmodifiable List<CharCoverage> coverages() {
+		return List.of(this.coverages);
+	}
+
+	/**
+	 * Finds the first font of this chain which covers the given character.
+	 *
+	 * @param codePoint the character code
+	 * @return the index of the font in this chain, or {@code -1} if no font covers the character
+	 */
+	public int resolve(int codePoint) {
+		for (int i = 0; i < this.coverages.length; i++) {
+			if (this.coverages[i].contains(codePoint)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Splits the given text into runs of characters to render with the same font,
+	 * assigning each character to the first font which covers it.
+	 *
+	 * @param text the text
+	 * @param runs the array receiving {@link #RUN_SIZE} values per run,
+	 * which must hold at least {@code RUN_SIZE * text.length()} values
+	 * @return the number of runs
+	 * @throws IllegalArgumentException if the runs array is too small
+	 * @see #itemize(CharSequence, int[], boolean)
+	 */
+	public int itemize(@NotNull CharSequence text, int @NotNull [] runs) {
+		return this.itemize(text, runs, false);
+	}
+
+	/**
+	 * Splits the given text into runs of characters to render with the same font.
+	 *
+	 * @param text the text
+	 * @param runs the array receiving {@link #RUN_SIZE} values per run,
+	 * which must hold at least {@code RUN_SIZE * text.length()} values
+	 * @param keepNeutrals {@code true} if whitespace, common punctuation and combining marks covered by the font
+	 * of the current run should stay in that run, or {@code false} to assign them to the first font which covers them
+	 * @return the number of runs
+	 * @throws IllegalArgumentException if the runs array is too small
+	 */
+	public int itemize(@NotNull CharSequence text, int @NotNull [] runs, boolean keepNeutrals) {
+		if (runs.length < RUN_SIZE * text.length()) {
+			throw new IllegalArgumentException("The runs array is too small to hold every run.");
+		}
+
+		int count = 0;
+		int font = -1;
+		int runStart = 0;
+
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = Character.codePointAt(text, i);
+			boolean stays = font != -1 && keepNeutrals && isNeutral(codePoint) && this.coverages[font].contains(codePoint);
+
+			if (!stays) {
+				int resolved = this.resolve(codePoint);
+
+				if (resolved == -1) {
+					resolved = font == -1 ? 0 : font;
+				}
+
+				if (resolved != font) {
+					if (font != -1) {
+						count = addRun(runs, count, runStart, i, font);
+					}
+
+					font = resolved;
+					runStart = i;
+				}
+			}
+
+			i += Character.charCount(codePoint);
+		}
+
+		if (font != -1) {
+			count = addRun(runs, count, runStart, text.length(), font);
+		}
+
+		return count;
+	}
+
+	/**
+	 * {@return {@code true} if the given character is whitespace, common punctuation or a combining mark,
+	 * or {@code false} otherwise}
+	 *
+	 * @param codePoint the character code
+	 */
+	private static boolean isNeutral(int codePoint) {
+		return switch (Character.getType(codePoint)) {
+			case Character.SPACE_SEPARATOR, Character.NON_SPACING_MARK, Character.ENCLOSING_MARK,
+			     Character.COMBINING_SPACING_MARK -> true;
+			case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+			     Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+			     Character.OTHER_PUNCTUATION -> Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.COMMON;
+			default -> Character.isWhitespace(codePoint);
+		};
+	}
+
+	private static int addRun(int[] runs, int count, int start, int end, int font) {
+		int run = count * RUN_SIZE;
+		runs[run + RUN_START] = start;
+		runs[run + RUN_END] = end;
+		runs[run + RUN_FONT] = font;
+		return count + 1;
+	}
+}
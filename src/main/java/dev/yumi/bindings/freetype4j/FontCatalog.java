@@ -0,0 +1,476 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Represents a catalog of the faces found in font directories, with their metadata and character coverage.
+ * <p>
+ * Building a catalog opens every font file once, in parallel, each worker thread using its own {@link FreeType} instance.
+ * Font files are memory-mapped rather than read, so only the tables FreeType needs to describe each face are paged in,
+ * and each file is unmapped as soon as its faces have been described.
+ * The result can be persisted to a compact binary index file: later scans only re-open the font files
+ * whose size or modification time changed since the index was written, so startups with an up-to-date index
+ * don't open any font at all.
+ * <p>
+ * Files which FreeType cannot open are kept in the catalog without any face, so they are not retried on every scan.
+ * A catalog is immutable, and can be shared between threads.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FontCatalog {
+	private static final int MAGIC = 0x46543443; // FT4C
+	private static final int VERSION = 1;
+	private static final Set<String> EXTENSIONS = Set.of("ttf", "otf", "ttc", "otc", "pfa", "pfb", "woff", "woff2");
+
+	private final List<FileRecord> files;
+	private final List<Entry> entries;
+	private final int scannedFileCount;
+
+	private FontCatalog(List<FileRecord> files, int scannedFileCount) {
+		this.files = files;
+		this.entries = files.stream().flatMap(file -> file.entries.stream()).toList();
+		this.scannedFileCount = scannedFileCount;
+	}
+
+	/**
+	 * Scans the given font directories recursively.
+	 *
+	 * @param directories the font directories
+	 * @return the catalog
+	 * @throws IOException if a directory could not be walked
+	 */
+	public static @NotNull FontCatalog scan(@NotNull Collection<Path> directories) throws IOException {
+		return scan(directories, null);
+	}
+
+	/**
+	 * Scans the given font directories recursively, reusing and updating an index file.
+	 * <p>
+	 * The entries of the index whose font file is unchanged are reused as-is, the other font files are scanned.
+	 * If the index is missing, invalid, or out of date, it is rewritten with the new catalog.
+	 *
+	 * @param directories the font directories
+	 * @param indexFile the index file, or {@code null} to scan every font file without persisting the result
+	 * @return the catalog
+	 * @throws IOException if a directory could not be walked, or if the index file could not be written
+	 */
+	public static @NotNull FontCatalog scan(@NotNull Collection<Path> directories, @Nullable Path indexFile)
+			throws IOException {
+		var indexed = new HashMap<Path, FileRecord>();
+
+		if (indexFile != null && Files.isRegularFile(indexFile)) {
+			for (var file : readIndex(indexFile)) {
+				indexed.put(file.path, file);
+			}
+		}
+
+		var records = new ArrayList<FileRecord>();
+		var toScan = new ArrayList<FileRecord>();
+
+		for (var path : listFontFiles(directories)) {
+			var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			long lastModified = attributes.lastModifiedTime().toMillis();
+			long size = attributes.size();
+			var file = indexed.get(path);
+
+			if (file != null && file.lastModified == lastModified && file.size == size) {
+				records.add(file);
+			} else {
+				toScan.add(new FileRecord(path, lastModified, size, List.of()));
+			}
+		}
+
+		records.addAll(scanFiles(toScan));
+		records.sort(Comparator.comparing(FileRecord::path));
+
+		var catalog = new FontCatalog(List.copyOf(records), toScan.size());
+
+		if (indexFile != null && (!toScan.isEmpty() || indexed.size() != records.size())) {
+			catalog.write(indexFile);
+		}
+
+		return catalog;
+	}
+
+	/**
+	 * {@return every face of this catalog, sorted by file path and face index}
+	 */
+	@Contract(pure = true)
+	public @NotNull @Unmodifiable List<Entry> entries() {
+		return this.entries;
+	}
+
+	/**
+	 * Finds the faces of a given family.
+	 *
+	 * @param familyName the family name, which is compared case-insensitively
+	 * @return the faces of the family
+	 */
+	public @NotNull @Unmodifiable List<Entry> findFamily(@NotNull String familyName) {
+		return this.entries.stream().filter(entry -> entry.familyName.equalsIgnoreCase(familyName)).toList();
+	}
+
+	/**
+	 * {@return the number of font files in this catalog}
+	 */
+	@Contract(pure = true)
+	public int fileCount() {
+		return this.files.size();
+	}
+
+	/**
+	 * {@return the number of font files which had to be opened to build this catalog, instead of being read from the index}
+	 */
+	@Contract(pure = true)
+	public int scannedFileCount() {
+		return this.scannedFileCount;
+	}
+
+	/**
+	 * Writes this catalog to an index file.
+	 * <p>
+	 * The index is first written to a temporary file, which then replaces the index file.
+	 *
+	 * @param indexFile the index file
+	 * @throws IOException if the index file could not be written
+	 */
+	public void write(@NotNull Path indexFile) throws IOException {
+		var parent = indexFile.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		var tempFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+
+		try {
+			try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(this.files.size());
+
+				for (var file : this.files) {
+					out.writeUTF(file.path.toString());
+					out.writeLong(file.lastModified);
+					out.writeLong(file.size);
+					out.writeInt(file.entries.size());
+
+					for (var entry : file.entries) {
+						out.writeInt(entry.index);
+						out.writeUTF(entry.familyName);
+						out.writeBoolean(entry.styleName != null);
+
+						if (entry.styleName != null) {
+							out.writeUTF(entry.styleName);
+						}
+
+						out.writeLong(entry.glyphCount);
+						out.writeLong(entry.faceFlags);
+						out.writeLong(entry.styleFlags);
+						out.writeInt(entry.coverage.length);
+
+						// Ranges are sorted, so store them as deltas which are mostly small.
+						int previous = 0;
+						for (int bound : entry.coverage) {
+							writeVarInt(out, bound - previous);
+							previous = bound;
+						}
+					}
+				}
+			}
+
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static List<FileRecord> readIndex(Path indexFile) {
+		try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return List.of();
+			}
+
+			int fileCount = in.readInt();
+			var files = new ArrayList<FileRecord>(fileCount);
+
+			for (int i = 0; i < fileCount; i++) {
+				var path = Path.of(in.readUTF());
+				long lastModified = in.readLong();
+				long size = in.readLong();
+				int entryCount = in.readInt();
+				var entries = new ArrayList<Entry>(entryCount);
+
+				for (int j = 0; j < entryCount; j++) {
+					int index = in.readInt();
+					var familyName = in.readUTF();
+					var styleName = in.readBoolean() ? in.readUTF() : null;
+					long glyphCount = in.readLong();
+					long faceFlags = in.readLong();
+					long styleFlags = in.readLong();
+					var coverage = new int[in.readInt()];
+
+					int previous = 0;
+					for (int k = 0; k < coverage.length; k++) {
+						previous = coverage[k] = previous + readVarInt(in);
+					}
+
+					entries.add(new Entry(path, index, familyName, styleName, glyphCount, faceFlags, styleFlags, coverage));
+				}
+
+				files.add(new FileRecord(path, lastModified, size, List.copyOf(entries)));
+			}
+
+			return files;
+		} catch (IOException | RuntimeException e) {
+			// A corrupted or unreadable index is rebuilt from scratch.
+			return List.of();
+		}
+	}
+
+	private static List<Path> listFontFiles(Collection<Path> directories) throws IOException {
+		var paths = new ArrayList<Path>();
+
+		for (var directory : directories) {
+			if (!Files.isDirectory(directory)) {
+				continue;
+			}
+
+			try (Stream<Path> stream = Files.walk(directory)) {
+				stream.filter(Files::isRegularFile)
+						.filter(FontCatalog::isFontFile)
+						.map(Path::toAbsolutePath)
+						.map(Path::normalize)
+						.forEach(paths::add);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		return paths.stream().distinct().toList();
+	}
+
+	private static boolean isFontFile(Path path) {
+		var name = path.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		return dot != -1 && EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+	}
+
+	private static List<FileRecord> scanFiles(List<FileRecord> files) throws IOException {
+		if (files.isEmpty()) {
+			return List.of();
+		}
+
+		int workers = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		var futures = new ArrayList<Future<List<FileRecord>>>(workers);
+
+		try (var executor = Executors.newFixedThreadPool(workers)) {
+			for (int worker = 0; worker < workers; worker++) {
+				// Each worker scans an interleaved slice of the files with its own FreeType instance,
+				// as a FreeType instance must not be used by multiple threads at once.
+				int firstFile = worker;
+				futures.add(executor.submit(() -> {
+					var scanned = new ArrayList<FileRecord>();
+
+					try (var freetype = new FreeType()) {
+						for (int i = firstFile; i < files.size(); i += workers) {
+							scanned.add(scanFile(freetype, files.get(i)));
+						}
+					}
+
+					return scanned;
+				}));
+			}
+
+			var scanned = new ArrayList<FileRecord>(files.size());
+
+			for (var future : futures) {
+				scanned.addAll(future.get());
+			}
+
+			return scanned;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while scanning font files.", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Could not scan font files.", e.getCause());
+		}
+	}
+
+	private static FileRecord scanFile(FreeType freetype, FileRecord file) {
+		var entries = new ArrayList<Entry>();
+		FontData fontData;
+
+		try {
+			// The mapping never leaves this worker, and confined arenas avoid a costly handshake when closed.
+			fontData = FontData.map(file.path, Arena.ofConfined(), null);
+		} catch (IOException e) {
+			return file;
+		}
+
+		try {
+			int faceCount = 1;
+
+			for (int i = 0; i < faceCount; i++) {
+				fontData.acquire();
+
+				try (var face = freetype.newFace(fontData, i)) {
+					faceCount = (int) face.faceCount();
+					entries.add(new Entry(
+							file.path, i,
+							face.familyName(), face.styleName().orElse(null),
+							face.glyphCount(),
+							face.faceFlags(), face.styleFlags(),
+							face.charRanges()
+					));
+				}
+			}
+		} catch (RuntimeException e) {
+			// Malformed files may fail in many ways, keep the faces which could be opened,
+			// the file is not retried until it changes.
+		} finally {
+			fontData.release();
+		}
+
+		return new FileRecord(file.path, file.lastModified, file.size, List.copyOf(entries));
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7f) != 0) {
+			out.writeByte((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7f) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable-length integer.");
+	}
+
+	private record FileRecord(Path path, long lastModified, long size, List<Entry> entries) {}
+
+	/**
+	 * Represents a face of a {@link FontCatalog}.
+	 *
+	 * @param path the path to the font file
+	 * @param index the index of the face in the font file
+	 * @param familyName the family name of the face, or an empty string if the font doesn't provide one
+	 * @param styleName the style name of the face, if present
+	 * @param glyphCount the number of glyphs in the face
+	 * @param faceFlags the {@linkplain FTFaceFlags face flags}
+	 * @param styleFlags the style flags, whose upper bits hold the number of named instances
+	 * @param coverage the inclusive ranges of character codes mapped by the default charmap of the face,
+	 * as sorted consecutive start and end pairs
+	 */
+	public record Entry(
+			@NotNull Path path, int index,
+			@NotNull String familyName, @Nullable String styleName,
+			long glyphCount,
+			long faceFlags, long styleFlags,
+			int @NotNull [] coverage
+	) {
+		@Override
+		public int @NotNull [] coverage() {
+			return this.coverage.clone();
+		}
+
+		/**
+		 * {@return {@code true} if the default charmap of this face maps the given character code, or {@code false} otherwise}
+		 *
+		 * @param codePoint the character code
+		 */
+		public boolean covers(int codePoint) {
+			// Find the last range start which is lower or equal to the code point.
+			int low = 0;
+			int high = this.coverage.length / 2 - 1;
+
+			while (low <= high) {
+				int middle = (low + high) >>> 1;
+
+				if (this.coverage[middle * 2] <= codePoint) {
+					low = middle + 1;
+				} else {
+					high = middle - 1;
+				}
+			}
+
+			return high >= 0 && codePoint <= this.coverage[high * 2 + 1];
+		}
+
+		/**
+		 * Opens a face object for this entry.
+		 *
+		 * @param freetype the FreeType library instance to create the face with
+		 * @return the new face object
+		 * @throws IOException if the font file could not be opened or mapped
+		 */
+		public @NotNull FTFace openFace(@NotNull FreeType freetype) throws IOException {
+			return freetype.newMappedFace(this.path, this.index);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || o instanceof Entry other
+					&& this.index == other.index
+					&& this.glyphCount == other.glyphCount
+					&& this.faceFlags == other.faceFlags
+					&& this.styleFlags == other.styleFlags
+					&& this.path.equals(other.path)
+					&& this.familyName.equals(other.familyName)
+					&& Objects.equals(this.styleName, other.styleName)
+					&& Arrays.equals(this.coverage, other.coverage);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.path.hashCode();
+			result = 31 * result + this.index;
+			return 31 * result + Arrays.hashCode(this.coverage);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a font file which may hold multiple faces, like TrueType and OpenType collections ({@code .ttc}, {@code .otc}).
+ * <p>
+ * The font file is memory-mapped once, and every face of the file is scanned once into a lightweight {@link FaceDescriptor}:
+ * each face is only opened to read its names and flags, and is closed right away.
+ * Full face objects are only created on demand with {@link #openFace(int)}, and all share the same font data,
+ * which is freed once the collection and every face opened from it are closed.
+ * Single-face font files are handled as collections of one face.
+ * <p>
+ * Like face objects, a font collection is not thread-safe.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FontCollection implements AutoCloseable {
+	private final FreeType freetype;
+	private final FontData fontData;
+	private final List<FaceDescriptor> faces;
+	private boolean closed;
+
+	private FontCollection(FreeType freetype, FontData fontData) {
+		this.freetype = freetype;
+		this.fontData = fontData;
+
+		try {
+			this.faces = this.scan();
+		} catch (RuntimeException e) {
+			fontData.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens a font collection from a given font file by memory-mapping it.
+	 *
+	 * @param freetype the FreeType library instance used to scan and open the faces
+	 * @param path the path to the font file
+	 * @return the font collection
+	 * @throws IOException if the font file could not be opened or mapped
+	 * @throws FreeTypeException if the font file could not be parsed
+	 */
+	public static @NotNull FontCollection open(@NotNull FreeType freetype, @NotNull Path path) throws IOException {
+		return new FontCollection(freetype, FontData.map(path, null));
+	}
+
+	/**
+	 * Opens a font collection from the given font bytes, which are copied into native memory.
+	 *
+	 * @param freetype the FreeType library instance used to scan and open the faces
+	 * @param fontData the font bytes
+	 * @return the font collection
+	 * @throws FreeTypeException if the font bytes could not be parsed
+	 */
+	public static @NotNull FontCollection of(@NotNull FreeType freetype, byte @NotNull [] fontData) {
+		return new FontCollection(freetype, FontData.copyOf(fontData, null));
+	}
+
+	/**
+	 * {@return the descriptors of every face of this collection, in face index order}
+	 */
+	@Contract(pure = true)
+	public @NotNull @Unmodifiable List<FaceDescriptor> faces() {
+		return this.faces;
+	}
+
+	/**
+	 * {@return the number of faces in this collection}
+	 */
+	@Contract(pure = true)
+	public int size() {
+		return this.faces.size();
+	}
+
+	/**
+	 * Opens a full face object from this collection.
+	 * <p>
+	 * The returned face shares the font data of this collection, and must be closed by the caller.
+	 *
+	 * @param index the index of the face in this collection
+	 * @return the new face object
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public @NotNull FTFace openFace(int index) {
+		return this.openFace(index, 0);
+	}
+
+	/**
+	 * Opens a full face object from this collection, selecting one of its named instances if it is a variable font.
+	 * <p>
+	 * The returned face shares the font data of this collection, and must be closed by the caller.
+	 *
+	 * @param index the index of the face in this collection
+	 * @param namedInstance the index of the named instance starting at {@code 1}, or {@code 0} to ignore named instances
+	 * @return the new face object
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public @NotNull FTFace openFace(int index, int namedInstance) {
+		if (this.closed) {
+			throw new IllegalStateException("Cannot open a face from a closed font collection.");
+		}
+
+		Objects.checkIndex(index, this.faces.size());
+
+		if (!this.fontData.acquire()) {
+			throw new IllegalStateException("The font data of this collection has already been freed.");
+		}
+
+		return this.freetype.newFace(this.fontData, ((long) namedInstance << 16) | index);
+	}
+
+	/**
+	 * Releases the reference of this collection to its font data.
+	 * <p>
+	 * Faces opened from this collection remain usable until they are closed themselves.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed) {
+			this.closed = true;
+			this.fontData.release();
+		}
+	}
+
+	private List<FaceDescriptor> scan() {
+		var faces = new ArrayList<FaceDescriptor>();
+		int faceCount = 1;
+
+		for (int i = 0; i < faceCount; i++) {
+			if (!this.fontData.acquire()) {
+				throw new IllegalStateException("The font data of this collection has already been freed.");
+			}
+
+			try (var face = this.freetype.newFace(this.fontData, i)) {
+				faceCount = (int) face.faceCount();
+				faces.add(new FaceDescriptor(
+						i,
+						face.familyName(), face.styleName().orElse(null),
+						face.glyphCount(),
+						face.faceFlags(), face.styleFlags()
+				));
+			}
+		}
+
+		return List.copyOf(faces);
+	}
+
+	/**
+	 * Represents a lightweight description of a face of a {@link FontCollection}, which doesn't hold any native resource.
+	 *
+	 * @param index the index of the face in its collection
+	 * @param familyName the family name of the face, or an empty string if the font doesn't provide one
+	 * @param styleName the style name of the face, if present
+	 * @param glyphCount the number of glyphs in the face
+	 * @param faceFlags the {@linkplain FTFaceFlags face flags}
+	 * @param styleFlags the style flags, whose upper bits hold the number of named instances
+	 */
+	public record FaceDescriptor(
+			int index,
+			@NotNull String familyName, @Nullable String styleName,
+			long glyphCount,
+			long faceFlags, long styleFlags
+	) {
+		/**
+		 * {@return the number of named instances of this face if it is a variable font, or {@code 0} otherwise}
+		 */
+		public int namedInstanceCount() {
+			return (int) (this.styleFlags >>> 16) & 0x7fff;
+		}
+
+		/**
+		 * {@return {@code true} if this face has the given face flags, or {@code false} otherwise}
+		 *
+		 * @param flags the {@linkplain FTFaceFlags face flags} to check
+		 */
+		public boolean hasFlags(long flags) {
+			return (this.faceFlags & flags) == flags;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Represents reference-counted font data in native memory which backs one or more face objects.
+ * <p>
+ * Each face object created from font data holds one reference to it,
+ * the memory is freed once the last reference has been released.
+ */
+final class FontData {
+	private final @Nullable Arena arena;
+	private final MemorySegment segment;
+	private final @Nullable Consumer<FontData> onFree;
+	private int references = 1;
+
+	FontData(@Nullable Arena arena, MemorySegment segment, @Nullable Consumer<FontData> onFree) {
+		this.arena = arena;
+		this.segment = segment;
+		this.onFree = onFree;
+
+		if (arena != null) {
+			ResourceTracker.fontDataAllocated(segment.byteSize());
+		}
+	}
+
+	/**
+	 * Creates font data which is only borrowed, its lifetime is managed by the caller.
+	 *
+	 * @param segment the font data
+	 * @return the font data
+	 */
+	static FontData borrow(MemorySegment segment) {
+		return new FontData(null, segment, null);
+	}
+
+	/**
+	 * Creates font data which owns the given arena, which is closed once the font data is freed.
+	 *
+	 * @param arena the arena owning the font data
+	 * @param segment the font data
+	 * @return the font data
+	 */
+	static FontData owned(Arena arena, MemorySegment segment) {
+		return new FontData(arena, segment, null);
+	}
+
+	/**
+	 * Copies the given bytes into native memory.
+	 *
+	 * @param bytes the font bytes
+	 * @param onFree the action to run once the font data is freed
+	 * @return the font data
+	 */
+	static FontData copyOf(byte[] bytes, @Nullable Consumer<FontData> onFree) {
+		var arena = Arena.ofShared();
+		return new FontData(arena, arena.allocateFrom(ValueLayout.JAVA_BYTE, bytes), onFree);
+	}
+
+	/**
+	 * Copies the given memory into native memory.
+	 *
+	 * @param source the font bytes
+	 * @return the font data
+	 */
+	static FontData copyOf(MemorySegment source) {
+		var arena = Arena.ofShared();
+		var segment = arena.allocate(source.byteSize());
+		segment.copyFrom(source);
+		return new FontData(arena, segment, null);
+	}
+
+	/**
+	 * Memory-maps the given font file.
+	 *
+	 * @param path the path to the font file
+	 * @param onFree the action to run once the font data is freed
+	 * @return the font data
+	 * @throws IOException if the file could not be opened or mapped
+	 */
+	static FontData map(Path path, @Nullable Consumer<FontData> onFree) throws IOException {
+		return map(path, Arena.ofShared(), onFree);
+	}
+
+	/**
+	 * Memory-maps the given font file into the given arena, which is closed once the font data is freed.
+	 * <p>
+	 * A confined arena restricts the font data and its faces to the current thread,
+	 * but is much cheaper to close than a shared one.
+	 *
+	 * @param path the path to the font file
+	 * @param arena the arena owning the mapping
+	 * @param onFree the action to run once the font data is freed
+	 * @return the font data
+	 * @throws IOException if the file could not be opened or mapped
+	 */
+	static FontData map(Path path, Arena arena, @Nullable Consumer<FontData> onFree) throws IOException {
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return new FontData(arena, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena), onFree);
+		} catch (IOException | RuntimeException e) {
+			arena.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * {@return the native memory holding the font data}
+	 */
+	MemorySegment segment() {
+		return this.segment;
+	}
+
+	/**
+	 * Acquires a new reference to this font data.
+	 *
+	 * @return {@code true} if a reference has been acquired, or {@code false} if this font data has already been freed
+	 */
+	synchronized boolean acquire() {
+		if (this.references == 0) {
+			return false;
+		}
+
+		this.references++;
+		return true;
+	}
+
+	/**
+	 * Releases a reference to this font data, freeing it if it was the last one.
+	 */
+	void release() {
+		synchronized (this) {
+			if (this.references == 0) {
+				throw new IllegalStateException("Font data has already been freed.");
+			}
+
+			if (--this.references != 0) {
+				return;
+			}
+		}
+
+		if (this.onFree != null) {
+			this.onFree.accept(this);
+		}
+
+		if (this.arena != null) {
+			this.arena.close();
+			ResourceTracker.fontDataFreed(this.segment.byteSize());
+		}
+	}
+}
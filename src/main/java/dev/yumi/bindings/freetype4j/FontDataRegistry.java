@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Represents a registry of font data shared between face objects.
+ * <p>
+ * Faces created through this registry from the same font file, or from the same font bytes,
+ * are all backed by a single native copy of the font data, regardless of their face index or named instance.
+ * The native copy is freed once the last face backed by it is closed.
+ * <p>
+ * This registry is thread-safe, and can be shared between multiple {@link FreeType} instances.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FontDataRegistry {
+	private final Map<Object, FontData> entries = new HashMap<>();
+
+	/**
+	 * Creates a face object from a given font file, sharing its memory-mapped font data with other faces of this registry.
+	 *
+	 * @param freetype the FreeType library handle to create the face with
+	 * @param path the path to the font file
+	 * @param faceIndex the face index, see {@link FreeType#newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @throws IOException if the font file could not be opened or mapped
+	 * @see FreeType#newMappedFace(Path, long)
+	 */
+	public @NotNull FTFace newFace(@NotNull FreeType freetype, @NotNull Path path, long faceIndex) throws IOException {
+		var key = path.toRealPath();
+		FontData fontData;
+
+		synchronized (this.entries) {
+			fontData = this.acquire(key);
+
+			if (fontData == null) {
+				fontData = FontData.map(key, data -> this.remove(key, data));
+				this.entries.put(key, fontData);
+			}
+		}
+
+		return freetype.newFace(fontData, faceIndex);
+	}
+
+	/**
+	 * Creates a face object from the given font bytes, sharing its native font data with other faces of this registry
+	 * created from identical bytes.
+	 *
+	 * @param freetype the FreeType library handle to create the face with
+	 * @param fontData the font bytes
+	 * @param faceIndex the face index, see {@link FreeType#newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @see FreeType#newMemoryFace(byte[], long)
+	 */
+	public @NotNull FTFace newMemoryFace(@NotNull FreeType freetype, byte @NotNull [] fontData, long faceIndex) {
+		var key = new ContentHash(hash(fontData));
+		FontData data;
+
+		synchronized (this.entries) {
+			data = this.acquire(key);
+
+			if (data == null) {
+				data = FontData.copyOf(fontData, d -> this.remove(key, d));
+				this.entries.put(key, data);
+			}
+		}
+
+		return freetype.newFace(data, faceIndex);
+	}
+
+	/**
+	 * {@return the number of distinct font data currently held by this registry}
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	private FontData acquire(Object key) {
+		var fontData = this.entries.get(key);
+
+		if (fontData != null && fontData.acquire()) {
+			return fontData;
+		}
+
+		return null;
+	}
+
+	private void remove(Object key, FontData fontData) {
+		synchronized (this.entries) {
+			this.entries.remove(key, fontData);
+		}
+	}
+
+	private static String hash(byte[] fontData) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(fontData));
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError("SHA-256 should be supported by every Java platform.", e);
+		}
+	}
+
+	private record ContentHash(String digest) {}
+}
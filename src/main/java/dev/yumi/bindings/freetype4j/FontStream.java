@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Represents a random-access source of font data, which FreeType reads on demand.
+ * <p>
+ * Unlike memory faces, stream-backed faces never hold the whole font in memory:
+ * FreeType only reads the tables and glyphs it needs, which suits large fonts stored in archives or remote stores.
+ * <p>
+ * A stream is only read from the thread using its face, and is closed alongside its face.
+ *
+ * @see FreeType#newStreamFace(FontStream, long)
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface FontStream extends Closeable {
+	/**
+	 * {@return the size of the font data, in bytes}
+	 *
+	 * @throws IOException if the size could not be determined
+	 */
+	long size() throws IOException;
+
+	/**
+	 * Reads font data at the given offset.
+	 *
+	 * @param offset the offset of the first byte to read
+	 * @param destination the buffer receiving the bytes, up to its remaining space
+	 * @return the number of bytes read, or {@code -1} if the offset is past the end of the font data
+	 * @throws IOException if the font data could not be read
+	 */
+	int read(long offset, @NotNull ByteBuffer destination) throws IOException;
+
+	/**
+	 * Creates a font stream reading from the given channel, which is closed alongside the stream.
+	 * <p>
+	 * File channels are read with positional reads, other channels are repositioned before each read.
+	 *
+	 * @param channel the channel
+	 * @return the font stream
+	 */
+	static @NotNull FontStream of(@NotNull SeekableByteChannel channel) {
+		return new FontStream() {
+			@Override
+			public long size() throws IOException {
+				return channel.size();
+			}
+
+			@Override
+			public int read(long offset, @NotNull ByteBuffer destination) throws IOException {
+				if (channel instanceof FileChannel fileChannel) {
+					return fileChannel.read(destination, offset);
+				}
+
+				return channel.position(offset).read(destination);
+			}
+
+			@Override
+			public void close() throws IOException {
+				channel.close();
+			}
+		};
+	}
+}
@@ -10,28 +10,39 @@ package dev.yumi.bindings.freetype4j;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a FreeType library handle and the FreeType bindings.
+ * <p>
+ * Short native functions, like {@link FTFace#getCharIndex(long)} or {@link FTFace#setPixelSizes(int, int)},
+ * are linked as critical downcalls to reduce their overhead.
+ * This can be disabled by setting the {@code freetype4j.criticalDowncalls} system property to {@code false}
+ * before FreeType is first used.
  *
  * @version 1.0.0
  * @since 1.0.0
  */
 public class FreeType implements AutoCloseable {
 	private final MemorySegment handle;
-	private boolean canBeUsed = true;
+	private final LeakedFaces leakedFaces;
+	private final ResourceTracker.Registration registration;
+	private volatile boolean canBeUsed = true;
 
 	public FreeType() {
-		try (var arena = Arena.ofConfined()) {
-			var ptr = arena.allocate(ValueLayout.ADDRESS);
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var ptr = scratch.allocate(ValueLayout.ADDRESS);
 			int result;
 
 			try {
@@ -46,6 +57,13 @@ public class FreeType implements AutoCloseable {
 
 			this.handle = ptr.get(ValueLayout.ADDRESS, 0);
 		}
+
+		var handle = this.handle;
+		var leakedFaces = this.leakedFaces = new LeakedFaces();
+		this.registration = ResourceTracker.trackLibrary(this, () -> {
+			leakedFaces.freeAll();
+			int _ = doneFreeType(handle);
+		});
 	}
 
 	/**
@@ -64,10 +82,10 @@ public class FreeType implements AutoCloseable {
 	public FreeTypeVersion getVersion() {
 		this.checkCanBeUsed();
 
-		try (var arena = Arena.ofConfined()) {
-			var majorPtr = arena.allocate(ValueLayout.ADDRESS);
-			var minorPtr = arena.allocate(ValueLayout.ADDRESS);
-			var patchPtr = arena.allocate(ValueLayout.ADDRESS);
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var majorPtr = scratch.allocate(ValueLayout.JAVA_INT);
+			var minorPtr = scratch.allocate(ValueLayout.JAVA_INT);
+			var patchPtr = scratch.allocate(ValueLayout.JAVA_INT);
 
 			FreeTypeNative.get().ft$LibraryVersion.invokeExact(this.handle, majorPtr, minorPtr, patchPtr);
 
@@ -98,19 +116,23 @@ public class FreeType implements AutoCloseable {
 	 *
 	 * @return the new face object
 	 * @see #newFace(Path, long)
+	 * @see #newMappedFace(Path, long)
 	 * @see #newMemoryFace(byte[], long)
 	 * @see #newMemoryFace(InputStream, long)
+	 * @see #newStreamFace(FontStream, long)
 	 */
 	public FTFace newFace(String fontPath, long faceIndex) {
 		this.checkCanBeUsed();
+		this.leakedFaces.free();
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
 
-		try (var arena = Arena.ofConfined()) {
-			var ptr = arena.allocate(ValueLayout.ADDRESS);
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var ptr = scratch.allocate(ValueLayout.ADDRESS);
 			int result;
 
 			try {
 				result = (int) FreeTypeNative.get().ft$NewFace.invokeExact(
-						this.handle, arena.allocateFrom(fontPath), faceIndex, ptr
+						this.handle, scratch.allocateFrom(fontPath), faceIndex, ptr
 				);
 			} catch (Throwable e) {
 				throw new AssertionError("Should not reach here.", e);
@@ -120,7 +142,13 @@ public class FreeType implements AutoCloseable {
 				throw new FreeTypeException(result, getErrorString(result));
 			}
 
-			return new FTFace(ptr.get(ValueLayout.ADDRESS, 0));
+			var face = this.track(new FTFace(ptr.get(ValueLayout.ADDRESS, 0)), null);
+
+			if (Instrumentation.ENABLED) {
+				Instrumentation.faceLoaded(face, 0, System.nanoTime() - start);
+			}
+
+			return face;
 		}
 	}
 
@@ -129,35 +157,267 @@ public class FreeType implements AutoCloseable {
 		return this.newMemoryFace(bytes, faceIndex);
 	}
 
+	/**
+	 * Creates a face object from a given font file by memory-mapping it.
+	 * <p>
+	 * Unlike {@link #newFace(Path, long)}, the font file is never copied into the Java heap:
+	 * the mapped region is handed directly to FreeType and is unmapped once the returned face is closed.
+	 * Multiple faces mapping the same file share the same page-cache pages.
+	 *
+	 * @param path the path to the font file
+	 * @param faceIndex the face index, see {@link #newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @throws IOException if the font file could not be opened or mapped
+	 * @see #newFace(String, long)
+	 */
+	public FTFace newMappedFace(Path path, long faceIndex) throws IOException {
+		this.checkCanBeUsed();
+
+		return this.newFace(FontData.map(path, null), faceIndex);
+	}
+
 	public FTFace newMemoryFace(byte[] fontData, long faceIndex) {
 		this.checkCanBeUsed();
 
-		var faceArena = Arena.ofShared();
+		return this.newFace(FontData.copyOf(fontData, null), faceIndex);
+	}
+
+	public FTFace newMemoryFace(InputStream inputStream, long faceIndex) throws IOException {
+		return this.newMemoryFace(inputStream.readAllBytes(), faceIndex);
+	}
+
+	/**
+	 * Creates a face object from font data held in a byte buffer.
+	 * <p>
+	 * If the buffer is {@linkplain ByteBuffer#isDirect() direct}, its remaining bytes are passed to FreeType
+	 * without any copy, and the face only borrows them:
+	 * the buffer must not be modified as long as the returned face is open.
+	 * Otherwise, the remaining bytes are copied into native memory owned by the returned face.
+	 *
+	 * @param fontData the font data, from the buffer position to its limit
+	 * @param faceIndex the face index, see {@link #newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @see #newMemoryFace(MemorySegment, long)
+	 */
+	public FTFace newMemoryFace(ByteBuffer fontData, long faceIndex) {
+		if (fontData.isDirect()) {
+			return this.newMemoryFace(MemorySegment.ofBuffer(fontData), faceIndex);
+		}
+
+		this.checkCanBeUsed();
+
+		return this.newFace(FontData.copyOf(MemorySegment.ofBuffer(fontData)), faceIndex);
+	}
+
+	/**
+	 * Creates a face object from font data which already lives in native memory, without copying it.
+	 * <p>
+	 * The returned face only borrows the font data:
+	 * the caller is responsible for keeping the memory alive and unmodified as long as the face is open.
+	 *
+	 * @param fontData the font data, which must be a {@linkplain MemorySegment#isNative() native} segment
+	 * @param faceIndex the face index, see {@link #newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @throws IllegalArgumentException if the font data is not a native segment
+	 * @see #newMemoryFace(Arena, MemorySegment, long)
+	 */
+	public FTFace newMemoryFace(MemorySegment fontData, long faceIndex) {
+		this.checkCanBeUsed();
+		checkNativeFontData(fontData);
+
+		return this.newFace(FontData.borrow(fontData), faceIndex);
+	}
+
+	/**
+	 * Creates a face object from font data which already lives in native memory, without copying it.
+	 * <p>
+	 * The returned face takes over the lifetime of the font data:
+	 * the given arena is closed alongside the face, or right away if the face could not be created.
+	 *
+	 * @param fontDataArena the arena owning the font data
+	 * @param fontData the font data, which must be a {@linkplain MemorySegment#isNative() native} segment
+	 * @param faceIndex the face index, see {@link #newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @throws IllegalArgumentException if the font data is not a native segment
+	 * @throws IllegalStateException if this library has been closed
+	 * @see #newMemoryFace(MemorySegment, long)
+	 */
+	public FTFace newMemoryFace(@NotNull Arena fontDataArena, MemorySegment fontData, long faceIndex) {
+		if (!this.canBeUsed || !fontData.isNative()) {
+			// Ownership of the font data is taken even if it's rejected.
+			fontDataArena.close();
+			this.checkCanBeUsed();
+			checkNativeFontData(fontData);
+		}
+
+		return this.newFace(FontData.owned(fontDataArena, fontData), faceIndex);
+	}
+
+	/**
+	 * Creates a face object whose font data is read on demand from the given stream.
+	 * <p>
+	 * FreeType only reads the parts of the font it needs, through upcalls into the stream,
+	 * so the memory used by the face is proportional to what is actually read rather than to the size of the font.
+	 * The returned face takes over the stream, which is closed alongside the face,
+	 * or right away if the face could not be created.
+	 * <p>
+	 * Read failures happening after the face has been created are reported as {@link java.io.UncheckedIOException}s,
+	 * or as the runtime exception thrown by the stream, by the operation which triggered them.
+	 *
+	 * @param stream the font stream
+	 * @param faceIndex the face index, see {@link #newFace(String, long)} for the meaning of its bits
+	 * @return the new face object
+	 * @throws IOException if the stream could not be read
+	 * @see FontStream#of(java.nio.channels.SeekableByteChannel)
+	 */
+	public FTFace newStreamFace(@NotNull FontStream stream, long faceIndex) throws IOException {
+		var faceStream = FaceStream.of(stream);
+
+		if (!this.canBeUsed) {
+			faceStream.close();
+			this.checkCanBeUsed();
+		}
+
+		this.leakedFaces.free();
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var ptr = scratch.allocate(ValueLayout.ADDRESS);
+			int result;
+
+			try {
+				result = (int) FreeTypeNative.get().ft$OpenFace.invokeExact(
+						this.handle, faceStream.openArgs(scratch), faceIndex, ptr
+				);
+			} catch (Throwable e) {
+				faceStream.close();
+				throw new AssertionError("Should not reach here.", e);
+			}
+
+			if (result != FreeTypeError.OK.id()) {
+				try {
+					faceStream.rethrowError();
+				} finally {
+					faceStream.close();
+				}
+
+				throw new FreeTypeException(result, getErrorString(result));
+			}
+
+			var face = this.track(new FTFace.FromStream(faceStream, ptr.get(ValueLayout.ADDRESS, 0)), faceStream::close);
+
+			try {
+				// FreeType may have recovered from a failed read, which must still be reported.
+				faceStream.rethrowError();
+			} catch (IOException | RuntimeException e) {
+				face.close();
+				throw e;
+			}
+
+			if (Instrumentation.ENABLED) {
+				Instrumentation.faceLoaded(face, faceStream.size(), System.nanoTime() - start);
+			}
+
+			return face;
+		}
+	}
 
-		try (var localArena = Arena.ofConfined()) {
-			var ptr = localArena.allocate(ValueLayout.ADDRESS);
+	/**
+	 * Creates a face object from font data which already lives in native memory.
+	 * <p>
+	 * The returned face takes over the given reference to the font data,
+	 * which is released alongside the face, or right away if the face could not be created.
+	 *
+	 * @param fontData the font data
+	 * @param faceIndex the face index
+	 * @return the new face object
+	 */
+	FTFace newFace(FontData fontData, long faceIndex) {
+		if (!this.canBeUsed) {
+			fontData.release();
+			this.checkCanBeUsed();
+		}
+
+		this.leakedFaces.free();
+		long start = Instrumentation.ENABLED ? System.nanoTime() : 0L;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			var ptr = scratch.allocate(ValueLayout.ADDRESS);
 			int result;
 
 			try {
 				result = (int) FreeTypeNative.get().ft$NewMemoryFace.invokeExact(
 						this.handle,
-						faceArena.allocateFrom(ValueLayout.JAVA_BYTE, fontData), (long) fontData.length,
+						fontData.segment(), fontData.segment().byteSize(),
 						faceIndex, ptr
 				);
 			} catch (Throwable e) {
+				fontData.release();
 				throw new AssertionError("Should not reach here.", e);
 			}
 
 			if (result != FreeTypeError.OK.id()) {
+				fontData.release();
 				throw new FreeTypeException(result, getErrorString(result));
 			}
 
-			return new FTFace.FromMemory(faceArena, ptr.get(ValueLayout.ADDRESS, 0));
+			var face = this.track(new FTFace.FromMemory(fontData, ptr.get(ValueLayout.ADDRESS, 0)), fontData::release);
+
+			if (Instrumentation.ENABLED) {
+				Instrumentation.faceLoaded(face, fontData.segment().byteSize(), System.nanoTime() - start);
+			}
+
+			return face;
 		}
 	}
 
-	public FTFace newMemoryFace(InputStream inputStream, long faceIndex) throws IOException {
-		return this.newMemoryFace(inputStream.readAllBytes(), faceIndex);
+	/**
+	 * Sets an integer property of a FreeType module, like the {@code spread} of the {@code sdf} renderer.
+	 * <p>
+	 * Properties are global to this library instance, and affect every face created from it.
+	 *
+	 * @param moduleName the name of the module, like {@code "sdf"} or {@code "truetype"}
+	 * @param propertyName the name of the property
+	 * @param value the new value of the property
+	 * @throws FreeTypeException if the module is missing, or if the property is unknown or cannot be set to the given value
+	 */
+	public void setProperty(@NotNull String moduleName, @NotNull String propertyName, int value) {
+		this.checkCanBeUsed();
+
+		setProperty(this.handle, moduleName, propertyName, value);
+	}
+
+	static void setProperty(MemorySegment library, String moduleName, String propertyName, int value) {
+		int result;
+
+		try (var scratch = FreeTypeNative.Scratch.push()) {
+			result = (int) FreeTypeNative.get().ft$PropertySet.invokeExact(
+					library,
+					scratch.allocateFrom(moduleName), scratch.allocateFrom(propertyName),
+					scratch.allocateFrom(ValueLayout.JAVA_INT, value)
+			);
+		} catch (Throwable e) {
+			throw new AssertionError("Should not reach here.", e);
+		}
+
+		if (result != FreeTypeError.OK.id()) {
+			throw new FreeTypeException(result, getErrorString(result));
+		}
+	}
+
+	/**
+	 * Starts tracking the given face as a resource of this library.
+	 *
+	 * @param face the face
+	 * @param release the action releasing the resources backing the face once it has been freed, if any
+	 * @param <F> the type of face
+	 * @return the face
+	 */
+	private <F extends FTFace> F track(F face, @Nullable Runnable release) {
+		var handle = face.handle();
+		var leakedFaces = this.leakedFaces;
+		face.track(this, ResourceTracker.trackFace(face, () -> leakedFaces.add(handle, release)));
+		return face;
 	}
 
 	@Override
@@ -165,17 +425,21 @@ public class FreeType implements AutoCloseable {
 		this.checkCanBeUsed();
 		this.canBeUsed = false;
 
-		int result;
+		this.leakedFaces.freeAll();
+		int result = doneFreeType(this.handle);
+		this.registration.release();
+
+		if (result != 0) {
+			throw new FreeTypeException(result, getErrorString(result));
+		}
+	}
 
+	private static int doneFreeType(MemorySegment handle) {
 		try {
-			result = (int) FreeTypeNative.get().ft$DoneFreeType.invokeExact(this.handle);
+			return (int) FreeTypeNative.get().ft$DoneFreeType.invokeExact(handle);
 		} catch (Throwable e) {
 			throw new AssertionError("Should not reach here.", e);
 		}
-
-		if (result != 0) {
-			throw new FreeTypeException(result, getErrorString(result));
-		}
 	}
 
 	private void checkCanBeUsed() {
@@ -184,6 +448,12 @@ public class FreeType implements AutoCloseable {
 		}
 	}
 
+	private static void checkNativeFontData(MemorySegment fontData) {
+		if (!fontData.isNative()) {
+			throw new IllegalArgumentException("Font data must be stored in native memory to be passed without copy.");
+		}
+	}
+
 	/**
 	 * Retrieve the description of a valid FreeType error code.
 	 *
@@ -213,4 +483,54 @@ public class FreeType implements AutoCloseable {
 			return null;
 		}
 	}
+
+	/**
+	 * Represents the faces of a library which became unreachable without being closed.
+	 * <p>
+	 * Leaked faces are reported from the cleaner thread, but are only freed by their library,
+	 * since a library and its faces must not be used from several threads at once.
+	 */
+	private static final class LeakedFaces {
+		private final List<MemorySegment> faces = new ArrayList<>();
+		private final List<@Nullable Runnable> releases = new ArrayList<>();
+		private boolean libraryFreed;
+
+		synchronized void add(MemorySegment face, @Nullable Runnable release) {
+			if (this.libraryFreed) {
+				// The face has already been freed alongside its library, only its backing resources remain.
+				if (release != null) {
+					release.run();
+				}
+
+				return;
+			}
+
+			this.faces.add(face);
+			this.releases.add(release);
+		}
+
+		synchronized void free() {
+			for (int i = 0; i < this.faces.size(); i++) {
+				try {
+					int _ = (int) FreeTypeNative.get().ft$DoneFace.invokeExact(this.faces.get(i));
+				} catch (Throwable e) {
+					throw new AssertionError("Should not reach here.", e);
+				}
+
+				var release = this.releases.get(i);
+
+				if (release != null) {
+					release.run();
+				}
+			}
+
+			this.faces.clear();
+			this.releases.clear();
+		}
+
+		synchronized void freeAll() {
+			this.free();
+			this.libraryFreed = true;
+		}
+	}
 }
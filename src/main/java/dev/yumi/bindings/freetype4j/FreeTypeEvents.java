@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Contains the JDK Flight Recorder events emitted when {@linkplain Instrumentation instrumentation} is enabled.
+ * <p>
+ * Native call and glyph render events are frequent, and are therefore disabled by default in recording settings.
+ */
+final class FreeTypeEvents {
+	private FreeTypeEvents() {
+		throw new UnsupportedOperationException("FreeTypeEvents only contains static definitions.");
+	}
+
+	@Name("dev.yumi.bindings.freetype4j.NativeCall")
+	@Label("FreeType Native Call")
+	@Description("A call to a native FreeType function.")
+	@Category("FreeType")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class NativeCall extends Event {
+		@Label("Function")
+		String function;
+
+		@Label("Call Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long callDuration;
+	}
+
+	@Name("dev.yumi.bindings.freetype4j.FaceLoad")
+	@Label("FreeType Face Load")
+	@Description("The creation of a face object.")
+	@Category("FreeType")
+	static final class FaceLoad extends Event {
+		@Label("Family Name")
+		String familyName;
+
+		@Label("Style Name")
+		String styleName;
+
+		@Label("Font Data Size")
+		@DataAmount
+		long fontDataBytes;
+
+		@Label("Load Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long loadDuration;
+	}
+
+	@Name("dev.yumi.bindings.freetype4j.GlyphRender")
+	@Label("FreeType Glyph Render")
+	@Description("The rendering of a glyph into its glyph slot.")
+	@Category("FreeType")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class GlyphRender extends Event {
+		@Label("Glyph Index")
+		int glyphIndex;
+
+		@Label("Bitmap Size")
+		@DataAmount
+		long pixelBytes;
+
+		@Label("Render Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long renderDuration;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a listener of the runtime metrics of this library, like native call latencies or face load durations.
+ * <p>
+ * Listeners are only notified when {@linkplain Instrumentation instrumentation} is enabled.
+ * They can be registered with {@link Instrumentation#addListener(FreeTypeListener)},
+ * or provided as a {@link java.util.ServiceLoader service}.
+ * <p>
+ * Listeners are called synchronously from the thread performing the measured operation,
+ * and should therefore be fast and thread-safe.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface FreeTypeListener {
+	/**
+	 * Called after a native FreeType function returned.
+	 *
+	 * @param function the name of the native function, like {@code FT_Load_Glyph}
+	 * @param durationNanos the duration of the call, in nanoseconds
+	 */
+	default void onNativeCall(@NotNull String function, long durationNanos) {}
+
+	/**
+	 * Called after a face has been loaded.
+	 *
+	 * @param face the loaded face
+	 * @param fontDataBytes the size of the font data in memory, or {@code 0} if the face has been loaded from a file path by FreeType
+	 * @param durationNanos the duration of the load, in nanoseconds
+	 */
+	default void onFaceLoaded(@NotNull FTFace face, long fontDataBytes, long durationNanos) {}
+
+	/**
+	 * Called after a glyph has been rendered into its glyph slot.
+	 *
+	 * @param slot the glyph slot holding the rendered glyph
+	 * @param pixelBytes the size of the rendered bitmap, in bytes
+	 * @param durationNanos the duration of the load and render, in nanoseconds
+	 */
+	default void onGlyphRendered(@NotNull FTGlyphSlot slot, long pixelBytes, long durationNanos) {}
+
+	/**
+	 * Called after a lookup in one of the caches of this library.
+	 *
+	 * @param cache the simple name of the cache class, like {@code FTGlyphCache}
+	 * @param hit {@code true} if the lookup was served from the cache, or {@code false} otherwise
+	 */
+	default void onCacheLookup(@NotNull String cache, boolean hit) {}
+}
@@ -18,6 +18,10 @@ class FreeTypeNative {
 			C_POINTER.withName("data"),
 			C_POINTER.withName("finalizer")
 	);
+	static final MemoryLayout FT_VECTOR = MemoryLayout.structLayout(
+			ValueLayout.JAVA_LONG.withName("x"),
+			ValueLayout.JAVA_LONG.withName("y")
+	).withName("FT_Vector");
 	static final MemoryLayout FT_FACE_LAYOUT = MemoryLayout.structLayout(
 			ValueLayout.JAVA_LONG.withName("num_faces"),
 			ValueLayout.JAVA_LONG.withName("face_index"),
@@ -47,7 +51,22 @@ class FreeTypeNative {
 			C_POINTER.withName("charmap")
 	);
 
+	static final MemoryLayout FT_SIZE_LAYOUT = MemoryLayout.structLayout(
+			C_POINTER.withName("face"),
+			FT_GENERIC.withName("generic"),
+			FTSizeMetrics.LAYOUT.withName("metrics"),
+			C_POINTER.withName("internal")
+	);
+
+	/**
+	 * The system property which can be set to {@code false} to disable critical linkage of native functions.
+	 *
+	 * @see Linkage
+	 */
+	static final String CRITICAL_LINKAGE_PROPERTY = "freetype4j.criticalDowncalls";
+
 	private static FreeTypeNative instance;
+	private static FreeTypeNative upcallInstance;
 
 	static FreeTypeNative get() {
 		if (instance != null) {
@@ -60,27 +79,78 @@ class FreeTypeNative {
 		System.loadLibrary("freetype");
 
 		var lookup = Linker.nativeLinker().defaultLookup().or(SymbolLookup.loaderLookup());
-		return instance = new FreeTypeNative(lookup);
+		return instance = new FreeTypeNative(
+				lookup, !"false".equalsIgnoreCase(System.getProperty(CRITICAL_LINKAGE_PROPERTY))
+		);
+	}
+
+	/**
+	 * {@return the native functions to call on faces whose font data is read through upcalls into Java}
+	 * Every function is linked with {@link Linkage#NORMAL} linkage, since critical downcalls must never call back into Java,
+	 * and FreeType may read font data from almost any function taking a face.
+	 *
+	 * @see FTFace#natives()
+	 */
+	static FreeTypeNative withUpcalls() {
+		if (upcallInstance != null) {
+			return upcallInstance;
+		}
+
+		get(); // Loads the FreeType library.
+
+		var lookup = Linker.nativeLinker().defaultLookup().or(SymbolLookup.loaderLookup());
+		return upcallInstance = new FreeTypeNative(lookup, false);
 	}
 
+	/**
+	 * {@code true} if native functions linked with {@link Linkage#CRITICAL_HEAP} accept heap segments, or {@code false} otherwise
+	 */
+	final boolean heapAccess;
+
 	final MethodHandle ft$InitFreeType;
 	final MethodHandle ft$DoneFreeType;
 	final MethodHandle ft$LibraryVersion;
 	final MethodHandle ft$ErrorString;
+	final MethodHandle ft$PropertySet;
 
 	final MethodHandle ft$NewFace;
 	final MethodHandle ft$NewMemoryFace;
+	final MethodHandle ft$OpenFace;
 	final MethodHandle ft$DoneFace;
 	final MethodHandle ft$SetCharSize;
 	final MethodHandle ft$setPixelSizes;
+	final MethodHandle ft$NewSize;
+	final MethodHandle ft$DoneSize;
+	final MethodHandle ft$ActivateSize;
 
 	/* Character Mapping */
 	final MethodHandle ft$SelectCharmap;
 	final MethodHandle ft$SetCharmap;
 	final MethodHandle ft$GetCharIndex;
+	final MethodHandle ft$GetFirstChar;
+	final MethodHandle ft$GetNextChar;
+
+	/* Glyph Loading */
+	final MethodHandle ft$LoadGlyph;
+	final MethodHandle ft$LoadChar;
+	final MethodHandle ft$RenderGlyph;
+	final MethodHandle ft$OutlineDecompose;
+
+	/* Variations */
+	final MethodHandle ft$GetMMVar;
+	final MethodHandle ft$DoneMMVar;
+	final MethodHandle ft$SetVarDesignCoordinates;
+	final MethodHandle ft$GetVarDesignCoordinates;
 
-	FreeTypeNative(SymbolLookup lookup) {
-		var loader = new Loader(lookup);
+	/* Metrics */
+	final MethodHandle ft$GetAdvances;
+	final MethodHandle ft$GetAdvancesFast;
+	final MethodHandle ft$LoadSfntTable;
+	final MethodHandle ft$GetKerning;
+
+	FreeTypeNative(SymbolLookup lookup, boolean critical) {
+		var loader = new Loader(lookup, critical);
+		this.heapAccess = loader.critical;
 
 		this.ft$InitFreeType = loader.lookup("FT_Init_FreeType",
 				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
@@ -90,7 +160,7 @@ class FreeTypeNative {
 		);
 		MethodHandle ft$ErrorString = null;
 		try {
-			ft$ErrorString = loader.lookup("FT_Error_String",
+			ft$ErrorString = loader.lookup("FT_Error_String", Linkage.CRITICAL,
 					FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.JAVA_INT)
 			);
 		} catch (Throwable _) {
@@ -98,9 +168,16 @@ class FreeTypeNative {
 		} finally {
 			this.ft$ErrorString = ft$ErrorString;
 		}
-		this.ft$LibraryVersion = loader.lookup("FT_Library_Version",
+		this.ft$LibraryVersion = loader.lookup("FT_Library_Version", Linkage.CRITICAL_HEAP,
 				FunctionDescriptor.ofVoid(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS)
 		);
+		this.ft$PropertySet = loader.lookup("FT_Property_Set",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FreeType handle
+						ValueLayout.ADDRESS, ValueLayout.ADDRESS, // module_name and property_name
+						ValueLayout.ADDRESS // value pointer
+				)
+		);
 
 		this.ft$NewFace = loader.lookup("FT_New_Face",
 				FunctionDescriptor.of(ValueLayout.JAVA_INT,
@@ -114,47 +191,280 @@ class FreeTypeNative {
 						ValueLayout.JAVA_LONG, ValueLayout.ADDRESS // face_index and output pointer
 				)
 		);
+		this.ft$OpenFace = loader.lookup("FT_Open_Face",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FreeType handle
+						ValueLayout.ADDRESS, // FT_Open_Args*
+						ValueLayout.JAVA_LONG, ValueLayout.ADDRESS // face_index and output pointer
+				)
+		);
 		this.ft$DoneFace = loader.lookup("FT_Done_Face",
 				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
 		);
-		this.ft$SetCharSize = loader.lookup("FT_Set_Char_Size",
+		this.ft$SetCharSize = loader.lookup("FT_Set_Char_Size", Linkage.CRITICAL,
 				FunctionDescriptor.of(ValueLayout.JAVA_INT,
 						ValueLayout.ADDRESS, // FT_Face*
 						ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT
 				)
 		);
-		this.ft$setPixelSizes = loader.lookup("FT_Set_Pixel_Sizes",
+		this.ft$setPixelSizes = loader.lookup("FT_Set_Pixel_Sizes", Linkage.CRITICAL,
 				FunctionDescriptor.of(ValueLayout.JAVA_INT,
 						ValueLayout.ADDRESS, // FT_Face*
 						ValueLayout.JAVA_INT, ValueLayout.JAVA_INT
 				)
 		);
+		this.ft$NewSize = loader.lookup("FT_New_Size",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.ADDRESS // output pointer
+				)
+		);
+		this.ft$DoneSize = loader.lookup("FT_Done_Size",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
+		);
+		this.ft$ActivateSize = loader.lookup("FT_Activate_Size", Linkage.CRITICAL,
+				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS)
+		);
 
-		this.ft$SelectCharmap = loader.lookup("FT_Select_Charmap",
+		this.ft$SelectCharmap = loader.lookup("FT_Select_Charmap", Linkage.CRITICAL,
 				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT)
 		);
-		this.ft$SetCharmap = loader.lookup("FT_Set_Charmap",
+		this.ft$SetCharmap = loader.lookup("FT_Set_Charmap", Linkage.CRITICAL,
 				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS)
 		);
-		this.ft$GetCharIndex = loader.lookup("FT_Get_Char_Index",
+		this.ft$GetCharIndex = loader.lookup("FT_Get_Char_Index", Linkage.CRITICAL,
 				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG)
 		);
+		this.ft$GetFirstChar = loader.lookup("FT_Get_First_Char", Linkage.CRITICAL_HEAP,
+				FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.ADDRESS, ValueLayout.ADDRESS)
+		);
+		this.ft$GetNextChar = loader.lookup("FT_Get_Next_Char", Linkage.CRITICAL_HEAP,
+				FunctionDescriptor.of(ValueLayout.JAVA_LONG,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_LONG, ValueLayout.ADDRESS // char_code and output glyph index pointer
+				)
+		);
+
+		this.ft$LoadGlyph = loader.lookup("FT_Load_Glyph",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.JAVA_INT // glyph_index and load_flags
+				)
+		);
+		this.ft$LoadChar = loader.lookup("FT_Load_Char",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT // char_code and load_flags
+				)
+		);
+		this.ft$RenderGlyph = loader.lookup("FT_Render_Glyph",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT)
+		);
+		this.ft$OutlineDecompose = loader.lookup("FT_Outline_Decompose",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Outline*
+						ValueLayout.ADDRESS, ValueLayout.ADDRESS // FT_Outline_Funcs* and user pointer
+				)
+		);
+
+		this.ft$GetMMVar = loader.lookup("FT_Get_MM_Var",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS)
+		);
+		this.ft$DoneMMVar = loader.lookup("FT_Done_MM_Var",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS)
+		);
+		this.ft$SetVarDesignCoordinates = loader.lookup("FT_Set_Var_Design_Coordinates",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.ADDRESS // num_coords and coords
+				)
+		);
+		this.ft$GetVarDesignCoordinates = loader.lookup("FT_Get_Var_Design_Coordinates",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.ADDRESS // num_coords and output coords
+				)
+		);
+
+		// FT_Get_Advances falls back to loading each glyph, hinting included, unless its fast path is taken.
+		// The load flags only select the fast path if the driver supports it for the face: drivers without it,
+		// and TrueType variation fonts without HVAR table, still load each glyph, and faces opened by path
+		// read their metrics through file I/O. The critical handle must only be used once both are checked.
+		this.ft$GetAdvances = loader.lookup("FT_Get_Advances",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, // start, count and load_flags
+						ValueLayout.ADDRESS // output advances pointer
+				)
+		);
+		this.ft$GetAdvancesFast = loader.lookup("FT_Get_Advances", Linkage.CRITICAL_HEAP,
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, // start, count and load_flags
+						ValueLayout.ADDRESS // output advances pointer
+				)
+		);
+		this.ft$LoadSfntTable = loader.lookup("FT_Load_Sfnt_Table",
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, // tag and offset
+						ValueLayout.ADDRESS, ValueLayout.ADDRESS // output buffer and length pointers
+				)
+		);
+		this.ft$GetKerning = loader.lookup("FT_Get_Kerning", Linkage.CRITICAL,
+				FunctionDescriptor.of(ValueLayout.JAVA_INT,
+						ValueLayout.ADDRESS, // FT_Face*
+						ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, // left_glyph, right_glyph and kern_mode
+						ValueLayout.ADDRESS // output kerning vector pointer
+				)
+		);
+	}
+
+	/**
+	 * Represents a per-thread scratch allocator for short-lived native memory, like out-parameters.
+	 * <p>
+	 * Allocations are carved out of a small thread-local slab, and are released all at once when the scope
+	 * opened by {@link #push()} is closed. This avoids creating and closing an arena for each native call:
+	 *
+	 * <pre>{@code
+	 * try (var scratch = FreeTypeNative.Scratch.push()) {
+	 *     var ptr = scratch.allocate(ValueLayout.ADDRESS);
+	 *     // ...
+	 * }
+	 * }</pre>
+	 * <p>
+	 * The segments allocated from a scope must not be used once it has been closed,
+	 * nor be used by another thread.
+	 * The slab grows as needed up to 64 KiB, larger allocations are made from a confined arena
+	 * which is closed alongside the scope they have been made in.
+	 */
+	static final class Scratch implements SegmentAllocator, AutoCloseable {
+		private static final long SLAB_SIZE = 1024;
+		private static final long MAX_SLAB_SIZE = 64 * 1024;
+		private static final long SLAB_ALIGNMENT = 16;
+		private static final int MAX_DEPTH = 16;
+		private static final ThreadLocal<Scratch> LOCAL = ThreadLocal.withInitial(Scratch::new);
+
+		private MemorySegment slab = Arena.ofAuto().allocate(SLAB_SIZE, SLAB_ALIGNMENT);
+		private final long[] marks = new long[MAX_DEPTH];
+		private final Arena[] overflows = new Arena[MAX_DEPTH];
+		private int depth;
+		private long offset;
+
+		private Scratch() {}
+
+		/**
+		 * Opens a new scratch scope on the current thread.
+		 *
+		 * @return the scratch allocator of the current thread
+		 */
+		static Scratch push() {
+			var scratch = LOCAL.get();
+
+			if (scratch.depth == MAX_DEPTH) {
+				throw new IllegalStateException("Scratch scopes are nested too deeply.");
+			}
+
+			scratch.marks[scratch.depth++] = scratch.offset;
+			return scratch;
+		}
+
+		@Override
+		public MemorySegment allocate(long byteSize, long byteAlignment) {
+			long start = (this.offset + byteAlignment - 1) & -byteAlignment;
+			long end = start + byteSize;
+
+			if (byteAlignment > SLAB_ALIGNMENT || end > MAX_SLAB_SIZE) {
+				var overflow = this.overflows[this.depth - 1];
+
+				if (overflow == null) {
+					overflow = this.overflows[this.depth - 1] = Arena.ofConfined();
+				}
+
+				return overflow.allocate(byteSize, byteAlignment);
+			}
+
+			if (end > this.slab.byteSize()) {
+				// Allocations of the enclosing scopes stay in the previous slab, which they keep reachable,
+				// the same offsets are simply left unused in the new slab.
+				this.slab = Arena.ofAuto().allocate(Math.min(Long.highestOneBit(end - 1) << 1, MAX_SLAB_SIZE), SLAB_ALIGNMENT);
+			}
+
+			this.offset = end;
+			return this.slab.asSlice(start, byteSize).fill((byte) 0);
+		}
+
+		/**
+		 * Closes the current scratch scope, releasing every allocation made since it has been opened.
+		 */
+		@Override
+		public void close() {
+			this.offset = this.marks[--this.depth];
+
+			var overflow = this.overflows[this.depth];
+
+			if (overflow != null) {
+				this.overflows[this.depth] = null;
+				overflow.close();
+			}
+		}
+	}
+
+	/**
+	 * Represents how a native function is linked.
+	 * <p>
+	 * Critical linkage skips the thread state transitions of regular downcalls,
+	 * but blocks the garbage collector for the duration of the call.
+	 * It must only be used for functions which are short, never block, and never call back into Java.
+	 * Critical linkage can be disabled by setting the {@value #CRITICAL_LINKAGE_PROPERTY} system property to {@code false},
+	 * in which case every function is linked with {@link #NORMAL} linkage.
+	 */
+	enum Linkage {
+		/**
+		 * Regular downcall, suitable for any function.
+		 */
+		NORMAL,
+		/**
+		 * Critical downcall, for short functions which never block and never call back into Java.
+		 */
+		CRITICAL,
+		/**
+		 * Critical downcall which also accepts heap segments as arguments,
+		 * for short functions whose pointer arguments are only accessed for the duration of the call.
+		 */
+		CRITICAL_HEAP
 	}
 
 	private static class Loader {
 		final SymbolLookup lookup;
 		final Linker linker;
+		final boolean critical;
 
-		private Loader(SymbolLookup lookup) {
+		private Loader(SymbolLookup lookup, boolean critical) {
 			this.lookup = lookup;
 			this.linker = Linker.nativeLinker();
+			this.critical = critical;
 		}
 
 		public MethodHandle lookup(String name, FunctionDescriptor descriptor) {
-			return this.linker.downcallHandle(
-					this.lookup.findOrThrow(name),
-					descriptor
-			);
+			return this.lookup(name, Linkage.NORMAL, descriptor);
+		}
+
+		public MethodHandle lookup(String name, Linkage linkage, FunctionDescriptor descriptor) {
+			var symbol = this.lookup.findOrThrow(name);
+			MethodHandle handle;
+
+			if (!this.critical || linkage == Linkage.NORMAL) {
+				handle = this.linker.downcallHandle(symbol, descriptor);
+			} else {
+				handle = this.linker.downcallHandle(
+						symbol,
+						descriptor,
+						Linker.Option.critical(linkage == Linkage.CRITICAL_HEAP)
+				);
+			}
+
+			return Instrumentation.ENABLED ? Instrumentation.instrument(name, handle) : handle;
 		}
 	}
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the runtime metrics of this library: native call latencies, face loads, glyph renders and cache lookups.
+ * <p>
+ * Instrumentation is enabled by setting the {@value #ENABLED_PROPERTY} system property to {@code true} at startup.
+ * When disabled, native functions are called through their raw method handles and every measuring point is
+ * guarded by a constant, so instrumentation costs nothing.
+ * When enabled, metrics are:
+ * <ul>
+ *     <li>aggregated into the {@linkplain LatencyHistogram histograms} and counters of this class;</li>
+ *     <li>emitted as JDK Flight Recorder events in the {@code FreeType} category,
+ *     if the {@code jdk.jfr} module is present;</li>
+ *     <li>forwarded to the registered {@linkplain FreeTypeListener listeners},
+ *     including the ones provided as {@link ServiceLoader services}.</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Instrumentation {
+	/**
+	 * The system property which can be set to {@code true} to enable instrumentation.
+	 */
+	public static final String ENABLED_PROPERTY = "freetype4j.instrumentation";
+
+	static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+	// JDK Flight Recorder is an optional dependency, the event classes must not be loaded without it.
+	private static final boolean EVENTS = ENABLED && ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	private static final MethodHandle NANO_TIME;
+	private static final MethodHandle RECORD_NATIVE_CALL;
+
+	private static final List<FreeTypeListener> LISTENERS = new CopyOnWriteArrayList<>();
+	private static final Map<String, LatencyHistogram> NATIVE_CALLS = new ConcurrentHashMap<>();
+	private static final LatencyHistogram FACE_LOADS = new LatencyHistogram();
+	private static final LongAdder FACE_LOAD_BYTES = new LongAdder();
+	private static final LatencyHistogram GLYPH_RENDERS = new LatencyHistogram();
+	private static final LongAdder RENDERED_PIXEL_BYTES = new LongAdder();
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			NANO_TIME = lookup.findStatic(System.class, "nanoTime", MethodType.methodType(long.class));
+			RECORD_NATIVE_CALL = lookup.findStatic(Instrumentation.class, "recordNativeCall",
+					MethodType.methodType(void.class, String.class, LatencyHistogram.class, Throwable.class, long.class)
+			);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+
+		if (ENABLED) {
+			ServiceLoader.load(FreeTypeListener.class).forEach(LISTENERS::add);
+		}
+	}
+
+	private Instrumentation() {
+		throw new UnsupportedOperationException("Instrumentation only contains static definitions.");
+	}
+
+	/**
+	 * {@return {@code true} if instrumentation is enabled, or {@code false} otherwise}
+	 */
+	@Contract(pure = true)
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Registers a listener, which is only notified if instrumentation is enabled.
+	 *
+	 * @param listener the listener
+	 */
+	public static void addListener(@NotNull FreeTypeListener listener) {
+		LISTENERS.add(listener);
+	}
+
+	/**
+	 * Unregisters a listener.
+	 *
+	 * @param listener the listener
+	 */
+	public static void removeListener(@NotNull FreeTypeListener listener) {
+		LISTENERS.remove(listener);
+	}
+
+	/**
+	 * {@return the latency histograms of the native functions which have been called, by function name}
+	 */
+	public static @NotNull @Unmodifiable Map<String, LatencyHistogram> nativeCalls() {
+		return Collections.unmodifiableMap(NATIVE_CALLS);
+	}
+
+	/**
+	 * {@return the histogram of the durations of face loads}
+	 */
+	@Contract(pure = true)
+	public static @NotNull LatencyHistogram faceLoads() {
+		return FACE_LOADS;
+	}
+
+	/**
+	 * {@return the total size of the font data of loaded faces, in bytes}
+	 * Faces loaded from a file path by FreeType are not counted.
+	 */
+	public static long faceLoadBytes() {
+		return FACE_LOAD_BYTES.sum();
+	}
+
+	/**
+	 * {@return the histogram of the durations of glyph renders, including the load of the rendered glyph}
+	 */
+	@Contract(pure = true)
+	public static @NotNull LatencyHistogram glyphRenders() {
+		return GLYPH_RENDERS;
+	}
+
+	/**
+	 * {@return the total size of the rendered bitmaps, in bytes}
+	 */
+	public static long renderedPixelBytes() {
+		return RENDERED_PIXEL_BYTES.sum();
+	}
+
+	/**
+	 * Wraps the given native method handle to measure each of its calls.
+	 *
+	 * @param function the name of the native function
+	 * @param handle the native method handle
+	 * @return the measuring method handle, with the same type as the given handle
+	 */
+	static MethodHandle instrument(String function, MethodHandle handle) {
+		var histogram = NATIVE_CALLS.computeIfAbsent(function, _ -> new LatencyHistogram());
+		var record = MethodHandles.insertArguments(RECORD_NATIVE_CALL, 0, function, histogram);
+		var returnType = handle.type().returnType();
+
+		// The cleanup of tryFinally receives the thrown exception, the result if any, then the leading arguments.
+		MethodHandle cleanup;
+
+		if (returnType == void.class) {
+			cleanup = record;
+		} else {
+			var passResult = MethodHandles.dropArguments(
+					MethodHandles.dropArguments(MethodHandles.identity(returnType), 0, Throwable.class),
+					2, long.class
+			);
+			cleanup = MethodHandles.foldArguments(passResult, MethodHandles.dropArguments(record, 1, returnType));
+		}
+
+		var measured = MethodHandles.tryFinally(MethodHandles.dropArguments(handle, 0, long.class), cleanup);
+		return MethodHandles.foldArguments(measured, NANO_TIME);
+	}
+
+	private static void recordNativeCall(String function, LatencyHistogram histogram, Throwable error, long start) {
+		long duration = System.nanoTime() - start;
+		histogram.record(duration);
+
+		if (EVENTS) {
+			var event = new FreeTypeEvents.NativeCall();
+
+			if (event.shouldCommit()) {
+				event.function = function;
+				event.callDuration = duration;
+				event.commit();
+			}
+		}
+
+		for (var listener : LISTENERS) {
+			listener.onNativeCall(function, duration);
+		}
+	}
+
+	static void faceLoaded(FTFace face, long fontDataBytes, long duration) {
+		FACE_LOADS.record(duration);
+		FACE_LOAD_BYTES.add(fontDataBytes);
+
+		if (EVENTS) {
+			var event = new FreeTypeEvents.FaceLoad();
+
+			if (event.shouldCommit()) {
+				event.familyName = face.familyName();
+				event.styleName = face.styleName().orElse(null);
+				event.fontDataBytes = fontDataBytes;
+				event.loadDuration = duration;
+				event.commit();
+			}
+		}
+
+		for (var listener : LISTENERS) {
+			listener.onFaceLoaded(face, fontDataBytes, duration);
+		}
+	}
+
+	static void glyphRendered(FTGlyphSlot slot, long duration) {
+		var bitmap = slot.bitmap();
+		long pixelBytes = (long) bitmap.rows() * Math.abs(bitmap.pitch());
+
+		GLYPH_RENDERS.record(duration);
+		RENDERED_PIXEL_BYTES.add(pixelBytes);
+
+		if (EVENTS) {
+			var event = new FreeTypeEvents.GlyphRender();
+
+			if (event.shouldCommit()) {
+				event.glyphIndex = slot.glyphIndex();
+				event.pixelBytes = pixelBytes;
+				event.renderDuration = duration;
+				event.commit();
+			}
+		}
+
+		for (var listener : LISTENERS) {
+			listener.onGlyphRendered(slot, pixelBytes, duration);
+		}
+	}
+
+	static void cacheLookup(String cache, boolean hit) {
+		for (var listener : LISTENERS) {
+			listener.onCacheLookup(cache, hit);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a lock-free histogram of durations, with a relative precision of 12.5%.
+ * <p>
+ * Values are grouped into buckets of logarithmic width: each power of two is split into 8 linear sub-buckets,
+ * so recording a value is a couple of atomic increments, and the histogram has a fixed size whatever the values.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration, in nanoseconds, negative durations are recorded as {@code 0}
+	 */
+	public void record(long nanos) {
+		nanos = Math.max(nanos, 0);
+
+		this.buckets.incrementAndGet(bucketOf(nanos));
+		this.count.incrementAndGet();
+		this.total.addAndGet(nanos);
+		this.max.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * {@return the number of recorded durations}
+	 */
+	public long count() {
+		return this.count.get();
+	}
+
+	/**
+	 * {@return the sum of the recorded durations, in nanoseconds}
+	 */
+	public long totalNanos() {
+		return this.total.get();
+	}
+
+	/**
+	 * {@return the longest recorded duration, in nanoseconds}
+	 */
+	public long maxNanos() {
+		return this.max.get();
+	}
+
+	/**
+	 * Computes a percentile of the recorded durations.
+	 *
+	 * @param percentile the percentile, between {@code 0} and {@code 100}
+	 * @return the upper bound of the bucket holding the percentile, in nanoseconds, or {@code 0} if nothing has been recorded
+	 * @throws IllegalArgumentException if the percentile is out of bounds
+	 */
+	public long percentileNanos(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("The percentile must be between 0 and 100, got " + percentile + ".");
+		}
+
+		long count = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += this.buckets.get(i);
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += this.buckets.get(i);
+
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), this.maxNanos());
+			}
+		}
+
+		return 0;
+	}
+
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	private static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKET_COUNT) {
+			return bucket;
+		}
+
+		int shift = bucket / SUB_BUCKET_COUNT - 1;
+		long lower = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
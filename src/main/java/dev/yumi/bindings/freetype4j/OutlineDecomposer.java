@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Walks outlines with {@code FT_Outline_Decompose}, forwarding each segment to an {@link FTOutlinePath}.
+ * <p>
+ * The upcall stubs and the {@code FT_Outline_Funcs} structure are created once and shared by every thread,
+ * the path being filled is looked up through a thread-local, as FreeType calls back on the calling thread.
+ */
+final class OutlineDecomposer {
+	private static final MemoryLayout FUNCS_LAYOUT = MemoryLayout.structLayout(
+			ValueLayout.ADDRESS.withName("move_to"),
+			ValueLayout.ADDRESS.withName("line_to"),
+			ValueLayout.ADDRESS.withName("conic_to"),
+			ValueLayout.ADDRESS.withName("cubic_to"),
+			ValueLayout.JAVA_INT.withName("shift"),
+			MemoryLayout.paddingLayout(4),
+			ValueLayout.JAVA_LONG.withName("delta")
+	).withName("FT_Outline_Funcs");
+	private static final ValueLayout VECTOR_POINTER = ValueLayout.ADDRESS.withTargetLayout(FreeTypeNative.FT_VECTOR);
+	private static final ThreadLocal<OutlineDecomposer> LOCAL = ThreadLocal.withInitial(OutlineDecomposer::new);
+	/**
+	 * The non-zero error code returned by upcalls to abort the decomposition.
+	 */
+	private static final int ABORT = -1;
+	private static final MemorySegment FUNCS = createFuncs();
+
+	private FTOutlinePath path;
+	private Throwable error;
+
+	private OutlineDecomposer() {}
+
+	static void decompose(MemorySegment outline, FTOutlinePath path) {
+		var decomposer = LOCAL.get();
+		decomposer.path = path;
+		decomposer.error = null;
+
+		int result;
+
+		try {
+			result = (int) FreeTypeNative.get().ft$OutlineDecompose.invokeExact(outline, FUNCS, MemorySegment.NULL);
+		} catch (Throwable e) {
+			throw new AssertionError(e);
+		} finally {
+			decomposer.path = null;
+		}
+
+		var error = decomposer.error;
+
+		if (error != null) {
+			decomposer.error = null;
+
+			if (error instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (error instanceof Error e) {
+				throw e;
+			} else {
+				throw new AssertionError(error);
+			}
+		}
+
+		if (result != 0) {
+			throw new FreeTypeException(result, FreeType.getErrorString(result));
+		}
+	}
+
+	private static int moveTo(MemorySegment to, MemorySegment user) {
+		var decomposer = LOCAL.get();
+
+		try {
+			decomposer.path.add(FTOutlinePath.MOVE_TO, to);
+			return 0;
+		} catch (Throwable e) {
+			decomposer.error = e;
+			return ABORT;
+		}
+	}
+
+	private static int lineTo(MemorySegment to, MemorySegment user) {
+		var decomposer = LOCAL.get();
+
+		try {
+			decomposer.path.add(FTOutlinePath.LINE_TO, to);
+			return 0;
+		} catch (Throwable e) {
+			decomposer.error = e;
+			return ABORT;
+		}
+	}
+
+	private static int conicTo(MemorySegment control, MemorySegment to, MemorySegment user) {
+		var decomposer = LOCAL.get();
+
+		try {
+			decomposer.path.add(FTOutlinePath.CONIC_TO, control, to);
+			return 0;
+		} catch (Throwable e) {
+			decomposer.error = e;
+			return ABORT;
+		}
+	}
+
+	private static int cubicTo(MemorySegment control1, MemorySegment control2, MemorySegment to, MemorySegment user) {
+		var decomposer = LOCAL.get();
+
+		try {
+			decomposer.path.add(FTOutlinePath.CUBIC_TO, control1, control2, to);
+			return 0;
+		} catch (Throwable e) {
+			decomposer.error = e;
+			return ABORT;
+		}
+	}
+
+	private static MemorySegment createFuncs() {
+		var arena = Arena.global();
+		var funcs = arena.allocate(FUNCS_LAYOUT);
+
+		funcs.set(ValueLayout.ADDRESS, offset("move_to"), upcall("moveTo", arena, VECTOR_POINTER));
+		funcs.set(ValueLayout.ADDRESS, offset("line_to"), upcall("lineTo", arena, VECTOR_POINTER));
+		funcs.set(ValueLayout.ADDRESS, offset("conic_to"), upcall("conicTo", arena, VECTOR_POINTER, VECTOR_POINTER));
+		funcs.set(ValueLayout.ADDRESS, offset("cubic_to"),
+				upcall("cubicTo", arena, VECTOR_POINTER, VECTOR_POINTER, VECTOR_POINTER)
+		);
+		// shift and delta are left to 0, so the coordinates are passed through as-is.
+
+		return funcs;
+	}
+
+	private static long offset(String name) {
+		return FUNCS_LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement(name));
+	}
+
+	private static MemorySegment upcall(String name, Arena arena, ValueLayout... vectors) {
+		var arguments = new MemoryLayout[vectors.length + 1];
+		System.arraycopy(vectors, 0, arguments, 0, vectors.length);
+		arguments[vectors.length] = ValueLayout.ADDRESS; // user
+
+		var parameterTypes = new Class<?>[arguments.length];
+		Arrays.fill(parameterTypes, MemorySegment.class);
+
+		try {
+			var handle = MethodHandles.lookup().findStatic(
+					OutlineDecomposer.class, name, MethodType.methodType(int.class, parameterTypes)
+			);
+			return Linker.nativeLinker().upcallStub(handle, FunctionDescriptor.of(ValueLayout.JAVA_INT, arguments), arena);
+		} catch (ReflectiveOperationException e) {
+			throw new AssertionError(e);
+		}
+	}
+}
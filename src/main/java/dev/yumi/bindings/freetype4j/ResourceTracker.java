@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Cleaner;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the native resources allocated by this library, and detects the ones which are never closed.
+ * <p>
+ * The number of live libraries, faces, sizes and bytes of owned font data is always counted,
+ * which only costs an atomic update per allocation and release.
+ * <p>
+ * Leak detection is controlled by the {@value #MODE_PROPERTY} system property, read once at startup:
+ * <ul>
+ *     <li>{@code count}, the default, only counts resources;</li>
+ *     <li>{@code cleaner} additionally registers libraries and faces to a {@link Cleaner},
+ *     which reports and frees the ones which become unreachable without being closed;</li>
+ *     <li>{@code trace} additionally records the stack trace of every allocation, to report leaks with their origin.</li>
+ * </ul>
+ * Leaked faces are not freed from the cleaner thread, since FreeType libraries are not thread-safe,
+ * they are instead queued to their owning library and freed on its next face creation or on its closure.
+ * Leaks are reported to the {@code dev.yumi.bindings.freetype4j} {@linkplain System.Logger system logger}.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ResourceTracker {
+	/**
+	 * The system property which selects the leak detection {@linkplain Mode mode}.
+	 */
+	public static final String MODE_PROPERTY = "freetype4j.leakDetection";
+
+	private static final Mode MODE = Mode.of(System.getProperty(MODE_PROPERTY));
+	private static final System.Logger LOGGER = System.getLogger("dev.yumi.bindings.freetype4j");
+	private static final AtomicLong LIBRARIES = new AtomicLong();
+	private static final AtomicLong FACES = new AtomicLong();
+	private static final AtomicLong SIZES = new AtomicLong();
+	private static final AtomicLong FONT_DATA_BYTES = new AtomicLong();
+	private static final AtomicLong LEAKS = new AtomicLong();
+	private static @Nullable Cleaner cleaner;
+
+	private ResourceTracker() {
+		throw new UnsupportedOperationException("ResourceTracker only contains static definitions.");
+	}
+
+	/**
+	 * {@return the leak detection mode}
+	 */
+	@Contract(pure = true)
+	public static @NotNull Mode mode() {
+		return MODE;
+	}
+
+	/**
+	 * {@return the number of FreeType libraries which have not been closed yet}
+	 */
+	public static long liveLibraries() {
+		return LIBRARIES.get();
+	}
+
+	/**
+	 * {@return the number of faces which have not been closed yet}
+	 */
+	public static long liveFaces() {
+		return FACES.get();
+	}
+
+	/**
+	 * {@return the number of size objects which have not been closed yet}
+	 */
+	public static long liveSizes() {
+		return SIZES.get();
+	}
+
+	/**
+	 * {@return the number of bytes of font data held in native memory on behalf of open faces}
+	 * Borrowed font data, whose lifetime is managed by the caller, is not counted.
+	 */
+	public static long liveFontDataBytes() {
+		return FONT_DATA_BYTES.get();
+	}
+
+	/**
+	 * {@return the number of libraries and faces which became unreachable without being closed}
+	 * Leaks are only detected in the {@link Mode#CLEANER} and {@link Mode#TRACE} modes.
+	 */
+	public static long leakCount() {
+		return LEAKS.get();
+	}
+
+	static void sizeAllocated() {
+		SIZES.incrementAndGet();
+	}
+
+	static void sizeFreed() {
+		SIZES.decrementAndGet();
+	}
+
+	static void fontDataAllocated(long bytes) {
+		FONT_DATA_BYTES.addAndGet(bytes);
+	}
+
+	static void fontDataFreed(long bytes) {
+		FONT_DATA_BYTES.addAndGet(-bytes);
+	}
+
+	/**
+	 * Starts tracking the given library.
+	 *
+	 * @param library the library
+	 * @param onLeak the action freeing the library if it leaks, which must not reference the library itself
+	 * @return the registration, to release once the library is closed
+	 */
+	static Registration trackLibrary(FreeType library, Runnable onLeak) {
+		return new Registration(library, LIBRARIES, "FreeType library", onLeak);
+	}
+
+	/**
+	 * Starts tracking the given face.
+	 *
+	 * @param face the face
+	 * @param onLeak the action freeing the face if it leaks, which must not reference the face itself
+	 * @return the registration, to release once the face is closed
+	 */
+	static Registration trackFace(FTFace face, Runnable onLeak) {
+		return new Registration(face, FACES, "face", onLeak);
+	}
+
+	private static synchronized Cleaner cleaner() {
+		if (cleaner == null) {
+			cleaner = Cleaner.create();
+		}
+
+		return cleaner;
+	}
+
+	/**
+	 * Represents the leak detection modes.
+	 *
+	 * @see #MODE_PROPERTY
+	 */
+	public enum Mode {
+		/**
+		 * Only counts resources.
+		 */
+		COUNT,
+		/**
+		 * Counts resources, and reports and frees the ones which become unreachable without being closed.
+		 */
+		CLEANER,
+		/**
+		 * Like {@link #CLEANER}, and records the stack trace of every allocation to report leaks with their origin.
+		 */
+		TRACE;
+
+		static Mode of(@Nullable String value) {
+			if (value == null || value.isBlank()) {
+				return COUNT;
+			}
+
+			try {
+				return valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Unknown leak detection mode \"{0}\", falling back to counting.", value);
+				return COUNT;
+			}
+		}
+	}
+
+	/**
+	 * Represents the tracking of a single resource.
+	 */
+	static final class Registration implements Runnable {
+		private final AtomicLong counter;
+		private final String description;
+		private final Runnable onLeak;
+		private final @Nullable Throwable origin;
+		private final @Nullable Cleaner.Cleanable cleanable;
+		private volatile boolean released;
+
+		private Registration(Object resource, AtomicLong counter, String description, Runnable onLeak) {
+			this.counter = counter;
+			this.description = description;
+			this.onLeak = onLeak;
+			this.origin = MODE == Mode.TRACE ? new Throwable("Allocation site of the leaked " + description) : null;
+			this.cleanable = MODE == Mode.COUNT ? null : cleaner().register(resource, this);
+
+			counter.incrementAndGet();
+		}
+
+		/**
+		 * Stops tracking the resource, once it has been explicitly closed.
+		 */
+		void release() {
+			if (this.released) {
+				return;
+			}
+
+			this.released = true;
+
+			if (this.cleanable != null) {
+				this.cleanable.clean();
+			} else {
+				this.run();
+			}
+		}
+
+		@Override
+		public void run() {
+			this.counter.decrementAndGet();
+
+			if (this.released) {
+				return;
+			}
+
+			LEAKS.incrementAndGet();
+
+			if (this.origin != null) {
+				LOGGER.log(System.Logger.Level.WARNING, "A " + this.description + " was not closed before becoming unreachable.", this.origin);
+			} else {
+				LOGGER.log(System.Logger.Level.WARNING, "A " + this.description + " was not closed before becoming unreachable, "
+						+ "set the " + MODE_PROPERTY + " system property to \"trace\" to find where it was allocated.");
+			}
+
+			this.onLeak.run();
+		}
+	}
+}
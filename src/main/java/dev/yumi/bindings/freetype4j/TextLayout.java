@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Represents a single line of text laid out by a {@link TextMeasurer}.
+ * <p>
+ * The glyphs and their positions are stored in primitive arrays, which are reused and grown as needed
+ * when the same layout object is passed again to {@link TextMeasurer#layout(CharSequence, TextLayout)}.
+ * Only the first {@link #glyphCount()} values of those arrays are meaningful.
+ * <p>
+ * Every position and distance is expressed in 26.6 fractional pixels, or in font units if the text measurer uses
+ * {@link FTLoadFlags#NO_SCALE}, relative to the origin of the line on the baseline,
+ * with the Y axis pointing upwards.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TextLayout {
+	private int glyphCount;
+	private int[] glyphs;
+	private int[] positions;
+	private int[] clusters;
+	private long width;
+	private int xMin;
+	private int yMin;
+	private int xMax;
+	private int yMax;
+
+	/**
+	 * Creates a new empty text layout.
+	 */
+	public TextLayout() {
+		this(16);
+	}
+
+	/**
+	 * Creates a new empty text layout.
+	 *
+	 * @param capacity the initial number of glyphs this layout can hold without growing
+	 */
+	public TextLayout(int capacity) {
+		this.glyphs = new int[capacity];
+		this.positions = new int[capacity];
+		this.clusters = new int[capacity];
+	}
+
+	/**
+	 * {@return the number of glyphs in this layout}
+	 */
+	@Contract(pure = true)
+	public int glyphCount() {
+		return this.glyphCount;
+	}
+
+	/**
+	 * {@return the glyph indices of this layout}
+	 * Only the first {@link #glyphCount()} values are meaningful.
+	 */
+	@Contract(pure = true)
+	public int[] glyphs() {
+		return this.glyphs;
+	}
+
+	/**
+	 * {@return the horizontal pen position of each glyph of this layout}
+	 * Only the first {@link #glyphCount()} values are meaningful.
+	 */
+	@Contract(pure = true)
+	public int[] positions() {
+		return this.positions;
+	}
+
+	/**
+	 * {@return the index in the source text of the first character of each glyph of this layout}
+	 * Only the first {@link #glyphCount()} values are meaningful.
+	 */
+	@Contract(pure = true)
+	public int[] clusters() {
+		return this.clusters;
+	}
+
+	/**
+	 * {@return the advance width of the whole line, including kerning}
+	 */
+	@Contract(pure = true)
+	public long width() {
+		return this.width;
+	}
+
+	/**
+	 * {@return the left edge of the ink bounding box of the line}
+	 */
+	@Contract(pure = true)
+	public int xMin() {
+		return this.xMin;
+	}
+
+	/**
+	 * {@return the bottom edge of the ink bounding box of the line}
+	 */
+	@Contract(pure = true)
+	public int yMin() {
+		return this.yMin;
+	}
+
+	/**
+	 * {@return the right edge of the ink bounding box of the line}
+	 */
+	@Contract(pure = true)
+	public int xMax() {
+		return this.xMax;
+	}
+
+	/**
+	 * {@return the top edge of the ink bounding box of the line}
+	 */
+	@Contract(pure = true)
+	public int yMax() {
+		return this.yMax;
+	}
+
+	void reset(int capacity) {
+		if (this.glyphs.length < capacity) {
+			int newCapacity = Math.max(capacity, this.glyphs.length * 2);
+			this.glyphs = Arrays.copyOf(this.glyphs, newCapacity);
+			this.positions = Arrays.copyOf(this.positions, newCapacity);
+			this.clusters = Arrays.copyOf(this.clusters, newCapacity);
+		}
+
+		this.glyphCount = 0;
+		this.width = 0;
+		this.xMin = this.yMin = this.xMax = this.yMax = 0;
+	}
+
+	void add(int glyph, int position, int cluster) {
+		this.glyphs[this.glyphCount] = glyph;
+		this.positions[this.glyphCount] = position;
+		this.clusters[this.glyphCount] = cluster;
+		this.glyphCount++;
+	}
+
+	void finish(long width, int xMin, int yMin, int xMax, int yMax) {
+		this.width = width;
+		this.xMin = xMin;
+		this.yMin = yMin;
+		this.xMax = xMax;
+		this.yMax = yMax;
+	}
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Represents a text measurer, which lays out single lines of text with a given face.
+ * <p>
+ * The advances of the glyphs are retrieved in batches through {@link FTFace#getAdvances(int, int, int, long[])}
+ * and memoised, as well as the kerning of the glyph pairs met and their ink bounds once a layout needs them.
+ * Those tables are kept per {@linkplain FTSize size} of the face, so switching the active size keeps them,
+ * and are discarded automatically once a character size or the variation coordinates of the face are changed.
+ * <p>
+ * Distances are expressed in 26.6 fractional pixels, or in font units with {@link FTLoadFlags#NO_SCALE},
+ * in which case the tables don't depend on the size of the face.
+ * <p>
+ * The character codes are mapped to glyphs with {@link FTFace#getCharIndex(long)},
+ * enabling {@linkplain FTFace#setCharIndexCaching(boolean) character index caching} on the face
+ * avoids any native call when measuring already seen characters.
+ * This is a simple layout: each code point is mapped to a single glyph, and only {@code kern} table kerning is applied,
+ * complex scripts require a text shaping engine.
+ * <p>
+ * Like face objects, a text measurer is not thread-safe.
+ * Computing the ink bounds of a layout loads glyphs into the {@linkplain FTFace#glyph() glyph slot} of the face.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TextMeasurer {
+	private static final int PAGE_SHIFT = 7;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int BOUNDS_SIZE = 4;
+	private static final int MAX_KERNING_PAIRS = 1 << 16;
+
+	private final FTFace face;
+	private final int loadFlags;
+	private final boolean unscaled;
+	private final FTKerningMode kerningMode;
+	private final boolean kerning;
+	private final int glyphCount;
+	private final long[] advanceBuffer = new long[PAGE_SIZE];
+	private final HashMap<Long, Metrics> sizeMetrics = new HashMap<>();
+	private Metrics metrics;
+	private long sizeAddress;
+	private int generation;
+
+	/**
+	 * Creates a new text measurer.
+	 *
+	 * @param face the face to measure text with, whose character size must be set
+	 * @param loadFlags the {@linkplain FTLoadFlags load flags} used to retrieve the glyph metrics,
+	 * with {@link FTLoadFlags#NO_SCALE} every distance is expressed in font units
+	 * @param kerning {@code true} to apply the kerning of the face, or {@code false} otherwise
+	 */
+	public TextMeasurer(@NotNull FTFace face, int loadFlags, boolean kerning) {
+		this.face = face;
+		this.loadFlags = loadFlags;
+		this.unscaled = (loadFlags & FTLoadFlags.NO_SCALE) != 0;
+
+		if (this.unscaled) {
+			this.kerningMode = FTKerningMode.UNSCALED;
+		} else if ((loadFlags & FTLoadFlags.NO_HINTING) != 0) {
+			this.kerningMode = FTKerningMode.UNFITTED;
+		} else {
+			this.kerningMode = FTKerningMode.DEFAULT;
+		}
+
+		this.kerning = kerning && face.hasKerning();
+		this.glyphCount = (int) face.glyphCount();
+		this.generation = this.currentGeneration();
+	}
+
+	/**
+	 * {@return the face used by this text measurer}
+	 */
+	@Contract(pure = true)
+	public @NotNull FTFace face() {
+		return this.face;
+	}
+
+	/**
+	 * {@return the load flags used to retrieve the glyph metrics}
+	 */
+	@Contract(pure = true)
+	public int loadFlags() {
+		return this.loadFlags;
+	}
+
+	/**
+	 * Gets the advance width of a glyph.
+	 *
+	 * @param glyph the index of the glyph
+	 * @return the advance width, in 26.6 fractional pixels
+	 */
+	public int advance(int glyph) {
+		var metrics = this.metrics();
+
+		if (glyph < 0 || glyph >= this.glyphCount) {
+			return 0;
+		}
+
+		int page = glyph >> PAGE_SHIFT;
+
+		if (!metrics.loadedAdvancePages[page]) {
+			int first = page << PAGE_SHIFT;
+			int count = Math.min(PAGE_SIZE, this.glyphCount - first);
+			this.face.getAdvances(first, count, this.loadFlags, this.advanceBuffer);
+
+			for (int i = 0; i < count; i++) {
+				// Unscaled advances are in font units, scaled advances are converted from 16.16 to 26.6 fractional pixels.
+				metrics.advances[first + i] = this.unscaled
+						? (int) this.advanceBuffer[i]
+						: (int) ((this.advanceBuffer[i] + 512) >> 10);
+			}
+
+			metrics.loadedAdvancePages[page] = true;
+		}
+
+		return metrics.advances[glyph];
+	}
+
+	/**
+	 * Measures the advance width of the given text.
+	 *
+	 * @param text the text to measure
+	 * @return the advance width of the text including kerning, in 26.6 fractional pixels
+	 */
+	public long measure(@NotNull CharSequence text) {
+		return this.measure(text, 0, text.length());
+	}
+
+	/**
+	 * Measures the advance width of a range of the given text.
+	 *
+	 * @param text the text to measure
+	 * @param start the index of the first character to measure
+	 * @param end the index after the last character to measure
+	 * @return the advance width of the text range including kerning, in 26.6 fractional pixels
+	 */
+	public long measure(@NotNull CharSequence text, int start, int end) {
+		long width = 0;
+		int previous = 0;
+
+		for (int i = start; i < end; ) {
+			int codePoint = Character.codePointAt(text, i);
+			int glyph = this.face.getCharIndex(codePoint);
+
+			width += this.kerning(previous, glyph) + this.advance(glyph);
+
+			previous = glyph;
+			i += Character.charCount(codePoint);
+		}
+
+		return width;
+	}
+
+	/**
+	 * Finds how much of the given text fits in a given width, which is useful for line breaking and truncation.
+	 *
+	 * @param text the text to measure
+	 * @param start the index of the first character to measure
+	 * @param end the index after the last character to measure
+	 * @param maxWidth the available width, in 26.6 fractional pixels
+	 * @return the index after the last character which fits in the given width
+	 */
+	public int fit(@NotNull CharSequence text, int start, int end, long maxWidth) {
+		long width = 0;
+		int previous = 0;
+
+		for (int i = start; i < end; ) {
+			int codePoint = Character.codePointAt(text, i);
+			int glyph = this.face.getCharIndex(codePoint);
+
+			width += this.kerning(previous, glyph) + this.advance(glyph);
+
+			if (width > maxWidth) {
+				return i;
+			}
+
+			previous = glyph;
+			i += Character.charCount(codePoint);
+		}
+
+		return end;
+	}
+
+	/**
+	 * Lays out the given text on a single line.
+	 *
+	 * @param text the text to lay out
+	 * @return the new layout
+	 */
+	public @NotNull TextLayout layout(@NotNull CharSequence text) {
+		return this.layout(text, new TextLayout(text.length()));
+	}
+
+	/**
+	 * Lays out the given text on a single line, reusing the arrays of an existing layout.
+	 *
+	 * @param text the text to lay out
+	 * @param layout the layout to fill
+	 * @return the given layout
+	 */
+	public @NotNull TextLayout layout(@NotNull CharSequence text, @NotNull TextLayout layout) {
+		layout.reset(text.length());
+
+		int pen = 0;
+		int previous = 0;
+		int xMin = Integer.MAX_VALUE;
+		int yMin = Integer.MAX_VALUE;
+		int xMax = Integer.MIN_VALUE;
+		int yMax = Integer.MIN_VALUE;
+
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = Character.codePointAt(text, i);
+			int glyph = this.face.getCharIndex(codePoint);
+
+			pen += (int) this.kerning(previous, glyph);
+			layout.add(glyph, pen, i);
+
+			int bound = this.bounds(glyph);
+			var bounds = this.metrics.bounds;
+			int width = bounds[bound + 2];
+			int height = bounds[bound + 3];
+
+			if (width != 0 && height != 0) {
+				int left = pen + bounds[bound];
+				int top = bounds[bound + 1];
+
+				xMin = Math.min(xMin, left);
+				yMin = Math.min(yMin, top - height);
+				xMax = Math.max(xMax, left + width);
+				yMax = Math.max(yMax, top);
+			}
+
+			pen += this.advance(glyph);
+			previous = glyph;
+			i += Character.charCount(codePoint);
+		}
+
+		if (xMin > xMax) {
+			layout.finish(pen, 0, 0, 0, 0);
+		} else {
+			layout.finish(pen, xMin, yMin, xMax, yMax);
+		}
+
+		return layout;
+	}
+
+	/**
+	 * Discards the memoised glyph metrics of this text measurer.
+	 * <p>
+	 * This is done automatically when a character size or the variation coordinates of the face are changed,
+	 * but not when they are changed outside of {@link FTFace}, for example by resizing a size object natively.
+	 */
+	public void invalidate() {
+		this.sizeMetrics.clear();
+		this.metrics = null;
+		this.generation = this.currentGeneration();
+	}
+
+	private long kerning(int previous, int glyph) {
+		if (!this.kerning || previous == 0) {
+			return 0;
+		}
+
+		var pairs = this.metrics().kerningPairs;
+		// Glyph indices are never negative, and the left glyph is never 0, so the key is never the free key.
+		long key = ((long) previous << 32) | (glyph & 0xFFFFFFFFL);
+		int slot = pairs.find(key);
+
+		if (slot >= 0) {
+			return pairs.values[slot];
+		}
+
+		long kerning = this.face.getKerning(previous, glyph, this.kerningMode);
+
+		if (pairs.size >= MAX_KERNING_PAIRS) {
+			// Texts rarely use that many distinct pairs, start over rather than growing without bound.
+			pairs.clear();
+			slot = pairs.find(key);
+		}
+
+		pairs.insert(~slot, key, kerning);
+		return kerning;
+	}
+
+	private int bounds(int glyph) {
+		var metrics = this.metrics();
+
+		if (metrics.bounds == null) {
+			metrics.bounds = new int[this.glyphCount * BOUNDS_SIZE];
+			metrics.loadedBounds = new boolean[this.glyphCount];
+		}
+
+		if (glyph < 0 || glyph >= this.glyphCount) {
+			glyph = 0;
+		}
+
+		int bound = glyph * BOUNDS_SIZE;
+
+		if (!metrics.loadedBounds[glyph]) {
+			var glyphMetrics = this.face.loadGlyph(glyph, this.loadFlags).metrics();
+			metrics.bounds[bound] = (int) glyphMetrics.horiBearingX();
+			metrics.bounds[bound + 1] = (int) glyphMetrics.horiBearingY();
+			metrics.bounds[bound + 2] = (int) glyphMetrics.width();
+			metrics.bounds[bound + 3] = (int) glyphMetrics.height();
+			metrics.loadedBounds[glyph] = true;
+		}
+
+		return bound;
+	}
+
+	/**
+	 * {@return the memoised glyph metrics of the active size of the face}
+	 */
+	private Metrics metrics() {
+		int generation = this.currentGeneration();
+
+		if (this.generation != generation) {
+			this.invalidate();
+		}
+
+		// Unscaled metrics are shared by every size.
+		long sizeAddress = this.unscaled ? 0 : this.face.activeSizeHandle().address();
+
+		if (this.metrics == null || this.sizeAddress != sizeAddress) {
+			this.metrics = this.sizeMetrics.computeIfAbsent(sizeAddress, _ -> new Metrics(this.glyphCount));
+			this.sizeAddress = sizeAddress;
+		}
+
+		return this.metrics;
+	}
+
+	private int currentGeneration() {
+		return this.unscaled ? this.face.variationGeneration() : this.face.sizeGeneration();
+	}
+
+	/**
+	 * Represents the memoised glyph metrics of a size.
+	 */
+	private static final class Metrics {
+		private final int[] advances;
+		private final boolean[] loadedAdvancePages;
+		private final KerningPairs kerningPairs = new KerningPairs();
+		private int[] bounds;
+		private boolean[] loadedBounds;
+
+		private Metrics(int glyphCount) {
+			this.advances = new int[glyphCount];
+			this.loadedAdvancePages = new boolean[(glyphCount + PAGE_SIZE - 1) >> PAGE_SHIFT];
+		}
+	}
+
+	/**
+	 * Represents the memoised kerning of glyph pairs, in a primitive open-addressing hash table
+	 * keyed by the left glyph index in the upper 32 bits and the right glyph index in the lower 32 bits.
+	 */
+	private static final class KerningPairs {
+		private static final long FREE_KEY = 0;
+
+		private long[] keys = new long[64];
+		private long[] values = new long[64];
+		private int mask = 63;
+		private int size;
+
+		/**
+		 * Finds the slot of a given key.
+		 *
+		 * @param key the key
+		 * @return the slot of the key if present, or the bitwise complement of the free slot to insert it into otherwise
+		 */
+		private int find(long key) {
+			int slot = hash(key) & this.mask;
+
+			while (true) {
+				long current = this.keys[slot];
+
+				if (current == key) {
+					return slot;
+				} else if (current == FREE_KEY) {
+					return ~slot;
+				}
+
+				slot = (slot + 1) & this.mask;
+			}
+		}
+
+		private void insert(int slot, long key, long value) {
+			this.keys[slot] = key;
+			this.values[slot] = value;
+
+			if (++this.size * 2 > this.keys.length) {
+				this.rehash(this.keys.length << 1);
+			}
+		}
+
+		private void clear() {
+			Arrays.fill(this.keys, FREE_KEY);
+			this.size = 0;
+		}
+
+		private void rehash(int capacity) {
+			var oldKeys = this.keys;
+			var oldValues = this.values;
+
+			this.keys = new long[capacity];
+			this.values = new long[capacity];
+			this.mask = capacity - 1;
+			this.size = 0;
+
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != FREE_KEY) {
+					this.insert(~this.find(oldKeys[i]), oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+
+		private static int hash(long key) {
+			long hash = key * 0x9e3779b97f4a7c15L;
+			return (int) (hash ^ (hash >>> 32));
+		}
+	}
+}
@@ -7,7 +7,10 @@
  */
 
 module dev.yumi.bindings.freetype4j {
+	requires static jdk.jfr;
 	requires transitive org.jetbrains.annotations;
 
 	exports dev.yumi.bindings.freetype4j;
+
+	uses dev.yumi.bindings.freetype4j.FreeTypeListener;
 }
@@ -8,14 +8,49 @@
 
 package dev.yumi.bindings.freetype4j.test;
 
+import dev.yumi.bindings.freetype4j.CharCoverage;
+import dev.yumi.bindings.freetype4j.FTEncoding;
+import dev.yumi.bindings.freetype4j.FTFaceFlags;
+import dev.yumi.bindings.freetype4j.FTKerningMode;
+import dev.yumi.bindings.freetype4j.FTLoadFlags;
+import dev.yumi.bindings.freetype4j.FTNamedInstance;
+import dev.yumi.bindings.freetype4j.FTVariationCache;
+import dev.yumi.bindings.freetype4j.FaceProvider;
+import dev.yumi.bindings.freetype4j.FallbackChain;
+import dev.yumi.bindings.freetype4j.FontCatalog;
+import dev.yumi.bindings.freetype4j.FontCollection;
+import dev.yumi.bindings.freetype4j.FontDataRegistry;
+import dev.yumi.bindings.freetype4j.FontStream;
 import dev.yumi.bindings.freetype4j.FreeType;
+import dev.yumi.bindings.freetype4j.ResourceTracker;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FaceTest {
 	private static final long GLYPH_COUNT = 2030;
@@ -36,6 +71,10 @@ public class FaceTest {
 			assertEquals(0, face.fixedSizesCount());
 			assertEquals(4, face.charMapCount());
 			assertEquals(1950, face.unitsPerEm());
+			assertTrue(face.ascender() > 0);
+			assertTrue(face.descender() < 0);
+			assertTrue(face.height() >= face.ascender() - face.descender());
+			assertTrue(face.underlineThickness() > 0);
 
 			assertEquals(138, face.getCharIndex('a'));
 		}
@@ -59,4 +98,498 @@ public class FaceTest {
 			assertEquals(138, face.getCharIndex('a'));
 		}
 	}
+
+	@Test
+	public void testMappedLoad() throws IOException {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newMappedFace(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0)
+		) {
+			assertEquals(1, face.faceCount());
+			assertEquals(0, face.faceIndex());
+			assertEquals(GLYPH_COUNT, face.glyphCount());
+			assertEquals(FAMILY_NAME, face.familyName());
+			assertEquals(Optional.of(STYLE_NAME), face.styleName());
+			assertEquals(0, face.fixedSizesCount());
+			assertEquals(4, face.charMapCount());
+			assertEquals(1950, face.unitsPerEm());
+
+			assertEquals(138, face.getCharIndex('a'));
+		}
+	}
+
+	@Test
+	public void testBorrowedSegmentLoad() throws IOException {
+		var bytes = Files.readAllBytes(Path.of("build/test/ttf/FiraCode-Regular.ttf"));
+
+		try (
+				var arena = Arena.ofConfined();
+				var freetype = new FreeType()
+		) {
+			var fontData = arena.allocate(bytes.length);
+			fontData.copyFrom(MemorySegment.ofArray(bytes));
+
+			try (var face = freetype.newMemoryFace(fontData, 0)) {
+				assertEquals(GLYPH_COUNT, face.glyphCount());
+				assertEquals(FAMILY_NAME, face.familyName());
+				assertEquals(138, face.getCharIndex('a'));
+			}
+		}
+	}
+
+	@Test
+	public void testOwnedSegmentRejected() {
+		var heapArena = Arena.ofConfined();
+		var closedArena = Arena.ofConfined();
+
+		var freetype = new FreeType();
+
+		assertThrows(IllegalArgumentException.class, () -> freetype.newMemoryFace(heapArena, MemorySegment.ofArray(new byte[16]), 0));
+		assertFalse(heapArena.scope().isAlive());
+
+		freetype.close();
+		assertThrows(IllegalStateException.class, () -> freetype.newMemoryFace(closedArena, closedArena.allocate(16), 0));
+		assertFalse(closedArena.scope().isAlive());
+	}
+
+	@Test
+	public void testRegistryLoad() throws IOException {
+		var registry = new FontDataRegistry();
+		var path = Path.of("build/test/ttf/FiraCode-Regular.ttf");
+
+		try (var freetype = new FreeType()) {
+			try (
+					var first = registry.newFace(freetype, path, 0);
+					var second = registry.newFace(freetype, path, 0)
+			) {
+				assertEquals(1, registry.size());
+				assertEquals(FAMILY_NAME, first.familyName());
+				assertEquals(138, second.getCharIndex('a'));
+			}
+
+			assertEquals(0, registry.size());
+		}
+	}
+
+	@Test
+	public void testBulkCharIndices() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace("build/test/ttf/FiraCode-Regular.ttf", 0)
+		) {
+			var text = "abc\uD83D\uDE00";
+			var expected = new int[text.length()];
+			var actual = new int[text.length()];
+
+			assertEquals(4, face.getCharIndices(text, expected));
+			assertEquals(138, expected[0]);
+			assertThrows(IllegalArgumentException.class, () -> face.getCharIndices(text, new int[4]));
+
+			var map = face.charIndexMap();
+			assertTrue(map.size() > 0);
+			assertEquals(0, map.get(-1));
+			assertThrows(IllegalArgumentException.class, () -> map.getCharIndices(text, new int[4]));
+			assertEquals(4, map.getCharIndices(text, actual));
+
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], actual[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testCachedCharIndices() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace("build/test/ttf/FiraCode-Regular.ttf", 0)
+		) {
+			face.setCharIndexCaching(true);
+			assertTrue(face.isCharIndexCaching());
+
+			assertEquals(138, face.getCharIndex('a'));
+			assertEquals(138, face.getCharIndex('a'));
+			assertEquals(0, face.getCharIndex(0x10FFFF));
+
+			face.selectCharMap(FTEncoding.UNICODE);
+			assertEquals(138, face.getCharIndex('a'));
+		}
+	}
+
+	@Test
+	public void testVariations() throws IOException {
+		try (
+				var freetype = new FreeType();
+				var staticFace = freetype.newFace(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0);
+				var face = freetype.newFace(Path.of("build/test/variable_ttf/FiraCode-VF.ttf"), 0);
+				var cache = new FTVariationCache(freetype, face, 2)
+		) {
+			assertEquals(Optional.empty(), staticFace.variations());
+
+			var variations = face.variations().orElseThrow();
+			assertEquals(1, variations.axes().size());
+			assertFalse(variations.namedInstances().isEmpty());
+
+			var instance = variations.namedInstances().getFirst();
+			var copy = new FTNamedInstance(instance.coordinates(), instance.nameId(), instance.postScriptNameId());
+			assertEquals(instance, copy);
+			assertEquals(instance.hashCode(), copy.hashCode());
+			copy.coordinates()[0] = -1;
+			assertEquals(instance, copy);
+
+			var weight = variations.axes().getFirst();
+			assertEquals("wght", weight.tagName());
+			assertEquals(300L << 16, weight.minimum());
+			assertEquals(400L << 16, weight.defaultValue());
+			assertEquals(700L << 16, weight.maximum());
+
+			var coordinates = new long[1];
+			face.setVarDesignCoordinates(new long[] {600L << 16});
+			face.getVarDesignCoordinates(coordinates);
+			assertEquals(600L << 16, coordinates[0]);
+
+			// Whether or not the fast path is available, the advances match those of the current instance.
+			var advances = new long[4];
+			face.getAdvances(1, advances.length, FTLoadFlags.NO_SCALE, advances);
+
+			for (int i = 0; i < advances.length; i++) {
+				assertEquals(face.loadGlyph(i + 1, FTLoadFlags.NO_SCALE).advanceX(), advances[i]);
+			}
+
+			var bold = cache.get(new long[] {700L << 16});
+			assertSame(bold, cache.get(new long[] {700L << 16}));
+			bold.getVarDesignCoordinates(coordinates);
+			assertEquals(700L << 16, coordinates[0]);
+
+			var light = cache.get(new long[] {300L << 16});
+			assertNotSame(bold, light);
+			assertEquals(2, cache.size());
+
+			// The least recently used instance is recycled once the cache is full.
+			assertSame(bold, cache.get(new long[] {500L << 16}));
+			assertEquals(2, cache.size());
+			assertEquals(1, cache.hits());
+			assertEquals(3, cache.misses());
+		}
+	}
+
+	@Test
+	public void testFontCollection() throws IOException {
+		try (
+				var freetype = new FreeType();
+				var collection = FontCollection.open(freetype, Path.of("build/test/ttf/FiraCode-Regular.ttf"))
+		) {
+			assertEquals(1, collection.size());
+
+			var descriptor = collection.faces().getFirst();
+			assertEquals(0, descriptor.index());
+			assertEquals(FAMILY_NAME, descriptor.familyName());
+			assertEquals(STYLE_NAME, descriptor.styleName());
+			assertEquals(GLYPH_COUNT, descriptor.glyphCount());
+			assertTrue(descriptor.hasFlags(FTFaceFlags.SCALABLE));
+			assertEquals(0, descriptor.namedInstanceCount());
+
+			try (var face = collection.openFace(descriptor.index())) {
+				assertEquals(FAMILY_NAME, face.familyName());
+				assertEquals(138, face.getCharIndex('a'));
+			}
+		}
+	}
+
+	@Test
+	public void testFontCatalog() throws IOException {
+		var directories = List.of(Path.of("build/test/ttf"));
+		var indexFile = Files.createTempDirectory("freetype4j").resolve("fonts.idx");
+
+		var catalog = FontCatalog.scan(directories, indexFile);
+		assertTrue(catalog.fileCount() > 0);
+		assertEquals(catalog.fileCount(), catalog.scannedFileCount());
+		assertTrue(Files.isRegularFile(indexFile));
+
+		var regular = catalog.entries().stream()
+				.filter(entry -> entry.path().endsWith("FiraCode-Regular.ttf"))
+				.findFirst()
+				.orElseThrow();
+		assertEquals(FAMILY_NAME, regular.familyName());
+		assertEquals(STYLE_NAME, regular.styleName());
+		assertEquals(GLYPH_COUNT, regular.glyphCount());
+		assertTrue(regular.covers('a'));
+		assertFalse(regular.covers(0x4e00));
+		assertTrue(catalog.findFamily(FAMILY_NAME).contains(regular));
+
+		// The second scan must be served from the index without opening any font.
+		var indexed = FontCatalog.scan(directories, indexFile);
+		assertEquals(0, indexed.scannedFileCount());
+		assertEquals(catalog.entries(), indexed.entries());
+
+		try (
+				var freetype = new FreeType();
+				var face = regular.openFace(freetype)
+		) {
+			assertEquals(138, face.getCharIndex('a'));
+		}
+	}
+
+	@Test
+	public void testSizes() throws IOException {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0)
+		) {
+			var small = face.newSize();
+			var large = face.newSize();
+			assertFalse(small.isActive());
+
+			small.activate();
+			face.setPixelSizes(0, 16);
+			large.activate();
+			face.setPixelSizes(0, 48);
+
+			assertTrue(large.isActive());
+			assertEquals(16, small.metrics().yPpem());
+			assertEquals(48, large.metrics().yPpem());
+
+			small.activate();
+			assertTrue(small.isActive());
+			assertEquals(16, face.sizeMetrics().yPpem());
+
+			small.close();
+			large.activate();
+			assertEquals(48, face.sizeMetrics().yPpem());
+		}
+	}
+
+	@Test
+	public void testResourceTracker() throws IOException {
+		var path = Path.of("build/test/ttf/FiraCode-Regular.ttf");
+		long libraries = ResourceTracker.liveLibraries();
+		long faces = ResourceTracker.liveFaces();
+		long sizes = ResourceTracker.liveSizes();
+		long fontDataBytes = ResourceTracker.liveFontDataBytes();
+
+		try (var freetype = new FreeType()) {
+			assertEquals(libraries + 1, ResourceTracker.liveLibraries());
+
+			try (var face = freetype.newMappedFace(path, 0)) {
+				assertEquals(faces + 1, ResourceTracker.liveFaces());
+				assertEquals(fontDataBytes + Files.size(path), ResourceTracker.liveFontDataBytes());
+
+				try (var _ = face.newSize()) {
+					assertEquals(sizes + 1, ResourceTracker.liveSizes());
+				}
+
+				assertEquals(sizes, ResourceTracker.liveSizes());
+			}
+
+			assertEquals(faces, ResourceTracker.liveFaces());
+			assertEquals(fontDataBytes, ResourceTracker.liveFontDataBytes());
+		}
+
+		assertEquals(libraries, ResourceTracker.liveLibraries());
+	}
+
+	@Test
+	public void testStreamFace() throws IOException {
+		var path = Path.of("build/test/ttf/FiraCode-Regular.ttf");
+		var bytesRead = new AtomicLong();
+		var channelStream = FontStream.of(FileChannel.open(path, StandardOpenOption.READ));
+		var stream = new FontStream() {
+			@Override
+			public long size() throws IOException {
+				return channelStream.size();
+			}
+
+			@Override
+			public int read(long offset, @NotNull ByteBuffer destination) throws IOException {
+				int read = channelStream.read(offset, destination);
+				bytesRead.addAndGet(Math.max(read, 0));
+				return read;
+			}
+
+			@Override
+			public void close() throws IOException {
+				channelStream.close();
+			}
+		};
+
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newStreamFace(stream, 0)
+		) {
+			assertEquals(FAMILY_NAME, face.familyName());
+			assertEquals(GLYPH_COUNT, face.glyphCount());
+
+			face.setPixelSizes(0, 32);
+			var slot = face.loadChar('a', FTLoadFlags.RENDER);
+			assertEquals(138, slot.glyphIndex());
+			assertTrue(slot.bitmap().rows() > 0);
+
+			var advances = new long[1];
+			face.getAdvances(138, 1, FTLoadFlags.DEFAULT, advances);
+			assertTrue(advances[0] > 0);
+
+			// FreeType only reads the tables it needs, not the whole font.
+			assertTrue(bytesRead.get() < Files.size(path));
+		}
+	}
+
+	@Test
+	public void testStreamFaceReadError() throws IOException {
+		var path = Path.of("build/test/ttf/FiraCode-Regular.ttf");
+		var failure = new IOException("Simulated read failure.");
+		var failing = new AtomicBoolean();
+		var channelStream = FontStream.of(FileChannel.open(path, StandardOpenOption.READ));
+		var stream = new FontStream() {
+			@Override
+			public long size() throws IOException {
+				return channelStream.size();
+			}
+
+			@Override
+			public int read(long offset, @NotNull ByteBuffer destination) throws IOException {
+				if (failing.get()) {
+					throw failure;
+				}
+
+				return channelStream.read(offset, destination);
+			}
+
+			@Override
+			public void close() throws IOException {
+				channelStream.close();
+			}
+		};
+
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newStreamFace(stream, 0)
+		) {
+			face.setPixelSizes(0, 32);
+
+			failing.set(true);
+			var exception = assertThrows(UncheckedIOException.class, () -> face.loadChar('a', FTLoadFlags.RENDER));
+			assertSame(failure, exception.getCause());
+
+			// The failure is reported once, and doesn't leak into following calls.
+			failing.set(false);
+			assertEquals(138, face.loadChar('a', FTLoadFlags.RENDER).glyphIndex());
+		}
+	}
+
+	@Test
+	public void testStreamFaceSizesAndCharMaps() throws IOException {
+		var path = Path.of("build/test/ttf/FiraCode-Regular.ttf");
+
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newStreamFace(FontStream.of(FileChannel.open(path, StandardOpenOption.READ)), 0)
+		) {
+			face.setCharSize(0, 16 * 64, 300, 300);
+			face.setPixelSizes(0, 24);
+			assertEquals(24, face.sizeMetrics().yPpem());
+
+			try (var size = face.newSize()) {
+				size.activate();
+				face.setPixelSizes(0, 48);
+				assertEquals(48, size.metrics().yPpem());
+			}
+
+			for (var charMap : face.charMaps()) {
+				face.setCharMap(charMap);
+			}
+
+			face.selectCharMap(FTEncoding.UNICODE);
+			assertEquals(138, face.getCharIndex('a'));
+			assertEquals(138, face.charIndexMap().get('a'));
+
+			var glyphs = new int[] {face.getCharIndex('A'), face.getCharIndex('V'), face.getCharIndex('a')};
+			var kernings = new long[glyphs.length - 1];
+			face.getKernings(glyphs, kernings);
+
+			for (int i = 0; i < kernings.length; i++) {
+				assertEquals(face.getKerning(glyphs[i], glyphs[i + 1], FTKerningMode.DEFAULT), kernings[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testFallbackChain() throws IOException {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0)
+		) {
+			var coverage = CharCoverage.of(face);
+			assertTrue(coverage.contains('a'));
+			assertFalse(coverage.contains(0x4e00));
+			assertTrue(coverage.size() > 0);
+
+			var cjk = CharCoverage.ofRanges(new int[] {' ', ' ', 0x4e00, 0x9fff, 0x20000, 0x2a6df});
+			var chain = new FallbackChain(List.of(coverage, cjk));
+			assertEquals(0, chain.resolve('a'));
+			assertEquals(1, chain.resolve(0x4e00));
+			assertEquals(-1, chain.resolve(0x10fffd));
+
+			var text = "ab \u4e00 \ud840\udc00c\udbff\udffd";
+			var runs = new int[FallbackChain.RUN_SIZE * text.length()];
+			assertEquals(5, chain.itemize(text, runs));
+			assertArrayEquals(new int[] {
+					0, 3, 0,
+					3, 4, 1,
+					4, 5, 0,
+					5, 7, 1,
+					7, 10, 0
+			}, Arrays.copyOf(runs, 15));
+
+			// Spaces covered by the font of the current run stay in that run.
+			assertEquals(3, chain.itemize(text, runs, true));
+			assertArrayEquals(new int[] {
+					0, 3, 0,
+					3, 7, 1,
+					7, 10, 0
+			}, Arrays.copyOf(runs, 9));
+		}
+	}
+
+	@Test
+	public void testFaceProvider() throws Exception {
+		try (var provider = FaceProvider.ofFile(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0, 4)) {
+			var tasks = new ArrayList<Callable<Integer>>();
+
+			for (int i = 0; i < 32; i++) {
+				tasks.add(() -> provider.withFace(face -> {
+					face.setPixelSizes(0, 32);
+					face.loadChar('a', FTLoadFlags.RENDER);
+					return face.getCharIndex('a');
+				}));
+			}
+
+			try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (var result : executor.invokeAll(tasks)) {
+					assertEquals(138, (int) result.get());
+				}
+			}
+
+			assertTrue(provider.instanceCount() <= 4);
+		}
+	}
+
+	@Test
+	public void testFaceProviderLease() throws Exception {
+		try (var provider = FaceProvider.ofFile(Path.of("build/test/ttf/FiraCode-Regular.ttf"), 0, 1)) {
+			var first = provider.acquire();
+			var face = first.face();
+			first.close();
+
+			var second = provider.acquire();
+			assertNotSame(first, second);
+			assertSame(face, second.face());
+
+			// A stale lease can neither be used nor return the face leased by someone else.
+			first.close();
+			assertThrows(IllegalStateException.class, first::face);
+			assertEquals(138, second.face().getCharIndex('a'));
+
+			second.close();
+			assertEquals(1, provider.instanceCount());
+		}
+	}
 }
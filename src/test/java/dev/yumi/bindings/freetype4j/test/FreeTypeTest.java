@@ -8,9 +8,23 @@
 
 package dev.yumi.bindings.freetype4j.test;
 
+import dev.yumi.bindings.freetype4j.FTFace;
+import dev.yumi.bindings.freetype4j.FTGlyphSlot;
+import dev.yumi.bindings.freetype4j.FTLoadFlags;
 import dev.yumi.bindings.freetype4j.FreeType;
+import dev.yumi.bindings.freetype4j.FreeTypeListener;
+import dev.yumi.bindings.freetype4j.Instrumentation;
+import dev.yumi.bindings.freetype4j.LatencyHistogram;
+import dev.yumi.bindings.freetype4j.ResourceTracker;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class FreeTypeTest {
 	@Test
 	public void testInit() {
@@ -18,4 +32,98 @@ public class FreeTypeTest {
 		System.out.println("FreeType version: " + freetype.getVersion());
 		freetype.close();
 	}
+
+	@Test
+	@Tag("diagnostics")
+	public void testInstrumentation() {
+		assertTrue(Instrumentation.isEnabled());
+
+		var faceLoads = new AtomicInteger();
+		var renders = new AtomicInteger();
+		var listener = new FreeTypeListener() {
+			@Override
+			public void onFaceLoaded(@NotNull FTFace face, long fontDataBytes, long durationNanos) {
+				faceLoads.incrementAndGet();
+			}
+
+			@Override
+			public void onGlyphRendered(@NotNull FTGlyphSlot slot, long pixelBytes, long durationNanos) {
+				renders.incrementAndGet();
+			}
+		};
+		Instrumentation.addListener(listener);
+
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace("build/test/ttf/FiraCode-Regular.ttf", 0)
+		) {
+			face.setPixelSizes(0, 32);
+			face.loadChar('a', FTLoadFlags.RENDER);
+		} finally {
+			Instrumentation.removeListener(listener);
+		}
+
+		assertEquals(1, faceLoads.get());
+		assertEquals(1, renders.get());
+		assertTrue(Instrumentation.nativeCalls().get("FT_Load_Char").count() > 0);
+		assertTrue(Instrumentation.glyphRenders().count() > 0);
+		assertTrue(Instrumentation.renderedPixelBytes() > 0);
+	}
+
+	@Test
+	@Tag("diagnostics")
+	public void testLeakTracing() throws InterruptedException {
+		assertEquals(ResourceTracker.Mode.TRACE, ResourceTracker.mode());
+
+		long leaks = ResourceTracker.leakCount();
+		new FreeType();
+
+		for (int i = 0; i < 100 && ResourceTracker.leakCount() == leaks; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertEquals(leaks + 1, ResourceTracker.leakCount());
+	}
+
+	@Test
+	@Tag("fallbackLinkage")
+	public void testFallbackLinkage() {
+		assertEquals("false", System.getProperty("freetype4j.criticalDowncalls"));
+
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace("build/test/ttf/FiraCode-Regular.ttf", 0)
+		) {
+			assertTrue(freetype.getVersion().major() >= 2);
+
+			// Without heap access, advances go through native scratch memory instead of the given array.
+			var advances = new long[16];
+			face.getAdvances(0, advances.length, FTLoadFlags.NO_SCALE, advances);
+
+			for (int i = 0; i < advances.length; i++) {
+				assertEquals(face.loadGlyph(i, FTLoadFlags.NO_SCALE).advanceX(), advances[i]);
+			}
+
+			assertEquals(138, face.charIndexMap().get('a'));
+		}
+	}
+
+	@Test
+	public void testLatencyHistogram() {
+		var histogram = new LatencyHistogram();
+		assertEquals(0, histogram.percentileNanos(99));
+
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i);
+		}
+
+		assertEquals(1000, histogram.count());
+		assertEquals(500500, histogram.totalNanos());
+		assertEquals(1000, histogram.maxNanos());
+		assertEquals(1000, histogram.percentileNanos(100));
+
+		long median = histogram.percentileNanos(50);
+		assertTrue(median >= 500 && median < 500 * 1.125, "median " + median);
+	}
 }
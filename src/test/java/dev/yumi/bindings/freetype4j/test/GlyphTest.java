@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.bindings.freetype4j.test;
+
+import dev.yumi.bindings.freetype4j.FTGlyphCache;
+import dev.yumi.bindings.freetype4j.FTGlyphFormat;
+import dev.yumi.bindings.freetype4j.FTGlyphPlacement;
+import dev.yumi.bindings.freetype4j.FTKerningMode;
+import dev.yumi.bindings.freetype4j.FTLoadFlags;
+import dev.yumi.bindings.freetype4j.FTOutlinePath;
+import dev.yumi.bindings.freetype4j.FTPixelMode;
+import dev.yumi.bindings.freetype4j.FTRenderMode;
+import dev.yumi.bindings.freetype4j.FTSdfOptions;
+import dev.yumi.bindings.freetype4j.FreeType;
+import dev.yumi.bindings.freetype4j.TextMeasurer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.ValueLayout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GlyphTest {
+	private static final String FONT_PATH = "build/test/ttf/FiraCode-Regular.ttf";
+
+	@Test
+	public void testLoadAndRender() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			face.setPixelSizes(0, 32);
+
+			var slot = face.loadChar('a', FTLoadFlags.DEFAULT);
+			assertEquals(138, slot.glyphIndex());
+			assertEquals(FTGlyphFormat.OUTLINE, slot.format());
+			assertTrue(slot.advanceX() > 0);
+
+			slot.renderGlyph(FTRenderMode.NORMAL);
+			var bitmap = slot.bitmap();
+			assertEquals(FTGlyphFormat.BITMAP, slot.format());
+			assertEquals(FTPixelMode.GRAY, bitmap.pixelMode());
+			assertTrue(bitmap.width() > 0);
+			assertTrue(bitmap.rows() > 0);
+
+			var pixels = new byte[bitmap.width() * bitmap.rows()];
+			bitmap.copyTo(pixels, 0, bitmap.width());
+
+			boolean hasCoverage = false;
+			for (byte pixel : pixels) {
+				hasCoverage |= pixel != 0;
+			}
+			assertTrue(hasCoverage);
+		}
+	}
+
+	@Test
+	public void testAdvancesAndKerning() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			face.setPixelSizes(0, 32);
+
+			int glyph = face.getCharIndex('a');
+			var advances = new long[3];
+			face.getAdvances(glyph, advances.length, FTLoadFlags.NO_HINTING, advances);
+
+			for (int i = 0; i < advances.length; i++) {
+				assertEquals(face.loadGlyph(glyph + i, FTLoadFlags.NO_HINTING).linearHoriAdvance(), advances[i]);
+			}
+
+			var glyphs = new int[] {face.getCharIndex('A'), face.getCharIndex('V'), face.getCharIndex('a')};
+			var kernings = new long[glyphs.length - 1];
+			face.getKernings(glyphs, kernings);
+
+			for (int i = 0; i < kernings.length; i++) {
+				assertEquals(face.getKerning(glyphs[i], glyphs[i + 1], FTKerningMode.DEFAULT), kernings[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testTextMeasurer() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			face.setPixelSizes(0, 32);
+
+			var measurer = new TextMeasurer(face, FTLoadFlags.DEFAULT, true);
+			var text = "Hello, world!";
+			var layout = measurer.layout(text);
+
+			assertEquals(text.length(), layout.glyphCount());
+			assertEquals(measurer.measure(text), layout.width());
+			assertEquals(face.loadChar('a', FTLoadFlags.DEFAULT).advanceX(), measurer.advance(face.getCharIndex('a')));
+			assertTrue(layout.xMax() > layout.xMin());
+			assertTrue(layout.yMax() > 0);
+
+			for (int i = 1; i < layout.glyphCount(); i++) {
+				assertTrue(layout.positions()[i] > layout.positions()[i - 1]);
+			}
+
+			assertEquals(5, measurer.fit(text, 0, text.length(), measurer.measure(text, 0, 5)));
+
+			long width = layout.width();
+			face.setPixelSizes(0, 16);
+			assertTrue(measurer.measure(text) < width);
+
+			// Switching between sizes measures with the metrics of the active size.
+			try (
+					var small = face.newSize();
+					var large = face.newSize()
+			) {
+				small.activate();
+				face.setPixelSizes(0, 16);
+				large.activate();
+				face.setPixelSizes(0, 32);
+				assertEquals(width, measurer.measure(text));
+
+				small.activate();
+				assertTrue(measurer.measure(text) < width);
+				large.activate();
+				assertEquals(width, measurer.measure(text));
+			}
+
+			int a = face.getCharIndex('a');
+			var unscaled = new TextMeasurer(face, FTLoadFlags.NO_SCALE, true);
+			assertEquals(face.loadGlyph(a, FTLoadFlags.NO_SCALE).advanceX(), unscaled.advance(a));
+		}
+	}
+
+	@Test
+	public void testOutlineDecompose() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			var path = new FTOutlinePath(4);
+
+			for (char c : new char[] {'o', 'B', 'a'}) {
+				var slot = face.loadChar(c, FTLoadFlags.NO_SCALE);
+				assertEquals(FTGlyphFormat.OUTLINE, slot.format());
+
+				var outline = slot.outline();
+				assertSame(path, outline.decompose(path));
+
+				int moves = 0;
+				int coordinates = 0;
+				for (int i = 0; i < path.verbCount(); i++) {
+					int verb = path.verbs()[i];
+					if (verb == FTOutlinePath.MOVE_TO) moves++;
+					coordinates += 2 * FTOutlinePath.pointCount(verb);
+				}
+
+				assertEquals(FTOutlinePath.MOVE_TO, path.verbs()[0]);
+				assertEquals(outline.contourCount(), moves);
+				assertEquals(coordinates, path.coordinateCount());
+				assertEquals(outline.contourEnd(outline.contourCount() - 1), outline.pointCount() - 1);
+			}
+		}
+	}
+
+	@Test
+	public void testRenderIntoAtlas() {
+		try (
+				var arena = Arena.ofConfined();
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			face.setPixelSizes(0, 32);
+
+			var glyphs = new int[] {face.getCharIndex('a'), face.getCharIndex('b'), face.getCharIndex('c')};
+			var placements = new int[glyphs.length * FTGlyphPlacement.SIZE];
+			var atlas = arena.allocate(256 * 256);
+
+			assertEquals(glyphs.length, face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, atlas, 256, 1, placements));
+
+			for (int i = 1; i < glyphs.length; i++) {
+				int previous = (i - 1) * FTGlyphPlacement.SIZE;
+				int current = i * FTGlyphPlacement.SIZE;
+
+				assertTrue(placements[current + FTGlyphPlacement.WIDTH] > 0);
+				assertTrue(placements[current + FTGlyphPlacement.X]
+						> placements[previous + FTGlyphPlacement.X] + placements[previous + FTGlyphPlacement.WIDTH]);
+			}
+
+			// A 16x16 atlas cannot hold a single 32 pixels glyph.
+			assertEquals(0, face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, atlas.asSlice(0, 16 * 16), 16, 1, placements));
+
+			assertThrows(IllegalArgumentException.class,
+					() -> face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, atlas, 0, 1, placements));
+			assertThrows(IllegalArgumentException.class,
+					() -> face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, atlas, 256, -1, placements));
+			assertThrows(IllegalArgumentException.class,
+					() -> face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, atlas.asSlice(0, 16), 256, 1, placements));
+		}
+	}
+
+	@Test
+	public void testRenderSdfIntoAtlas() {
+		try (
+				var arena = Arena.ofConfined();
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0)
+		) {
+			var version = freetype.getVersion();
+			if (version.major() == 2 && version.minor() < 11) {
+				// The SDF renderers are only available since FreeType 2.11.
+				return;
+			}
+
+			face.setPixelSizes(0, 32);
+
+			var glyphs = new int[] {face.getCharIndex('a'), face.getCharIndex('b')};
+			var placements = new int[glyphs.length * FTGlyphPlacement.SIZE];
+			var atlas = arena.allocate(256 * 256);
+			var options = new FTSdfOptions(4, 1);
+
+			assertEquals(glyphs.length, face.renderSdfGlyphsInto(glyphs, FTLoadFlags.DEFAULT, options, atlas, 256, placements));
+
+			var normalPlacements = new int[placements.length];
+			face.renderGlyphsInto(glyphs, FTLoadFlags.DEFAULT, arena.allocate(256 * 256), 256, 1, normalPlacements);
+
+			// The distance field extends past the glyph coverage by the spread on each side.
+			assertTrue(placements[FTGlyphPlacement.WIDTH] > normalPlacements[FTGlyphPlacement.WIDTH]);
+
+			// Some pixels must lie outside, and some inside the outline.
+			boolean hasOutside = false;
+			boolean hasInside = false;
+			int width = placements[FTGlyphPlacement.WIDTH];
+			int height = placements[FTGlyphPlacement.HEIGHT];
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int value = Byte.toUnsignedInt(atlas.get(ValueLayout.JAVA_BYTE,
+							(long) (placements[FTGlyphPlacement.Y] + y) * 256 + placements[FTGlyphPlacement.X] + x
+					));
+					hasOutside |= value < 128;
+					hasInside |= value > 128;
+				}
+			}
+
+			assertTrue(hasOutside);
+			assertTrue(hasInside);
+		}
+	}
+
+	@Test
+	public void testGlyphCache() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0);
+				var cache = new FTGlyphCache(4096)
+		) {
+			int a = face.getCharIndex('a');
+			var glyph = cache.get(face, 32, FTLoadFlags.DEFAULT, a);
+			assertTrue(glyph.width() > 0);
+			assertEquals((long) glyph.rows() * glyph.pitch(), glyph.pixels().byteSize());
+
+			assertSame(glyph, cache.get(face, 32, FTLoadFlags.DEFAULT, a));
+			assertEquals(1, cache.hits());
+			assertEquals(1, cache.misses());
+
+			for (char c = 'b'; c <= 'z'; c++) {
+				cache.get(face, 32, FTLoadFlags.DEFAULT, face.getCharIndex(c));
+			}
+
+			assertTrue(cache.evictions() > 0);
+			assertTrue(cache.byteSize() <= cache.byteBudget());
+
+			// Released slabs no longer count against the budget.
+			cache.clear();
+			assertEquals(0, cache.size());
+			assertEquals(0, cache.byteSize());
+		}
+	}
+
+	@Test
+	public void testGlyphCacheSizes() {
+		try (
+				var freetype = new FreeType();
+				var face = freetype.newFace(FONT_PATH, 0);
+				var variableFace = freetype.newFace("build/test/variable_ttf/FiraCode-VF.ttf", 0);
+				var cache = new FTGlyphCache(1 << 20)
+		) {
+			int a = face.getCharIndex('a');
+			face.setPixelSizes(16, 8);
+
+			var glyph = cache.get(face, 32, FTLoadFlags.DEFAULT, a);
+
+			// The active size of the face is left untouched by the cache.
+			assertEquals(16, face.sizeMetrics().xPpem());
+			assertEquals(8, face.sizeMetrics().yPpem());
+
+			face.setPixelSizes(32, 32);
+			face.loadGlyph(a, FTLoadFlags.RENDER);
+			assertEquals(face.glyph().bitmap().width(), glyph.width());
+			assertEquals(face.glyph().bitmap().rows(), glyph.rows());
+			assertSame(glyph, cache.get(face, 32, FTLoadFlags.DEFAULT, a));
+
+			int w = variableFace.getCharIndex('w');
+			variableFace.setVarDesignCoordinates(new long[] {300L << 16});
+			var light = cache.get(variableFace, 32, FTLoadFlags.DEFAULT, w);
+			variableFace.setVarDesignCoordinates(new long[] {700L << 16});
+			var bold = cache.get(variableFace, 32, FTLoadFlags.DEFAULT, w);
+			assertNotSame(light, bold);
+			assertEquals(3, cache.misses());
+
+			cache.evict(variableFace);
+
+			// Closing is idempotent, the enclosing try-with-resources closes the cache again.
+			cache.close();
+			assertThrows(IllegalStateException.class, () -> cache.get(face, 32, FTLoadFlags.DEFAULT, a));
+		}
+	}
+}